@@ -1,5 +1,7 @@
 package net.tasuposed.projectredacted;
 
+import java.io.IOException;
+
 import org.slf4j.Logger;
 
 import com.mojang.logging.LogUtils;
@@ -7,6 +9,7 @@ import com.mojang.logging.LogUtils;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.EntityRenderersEvent;
 import net.minecraftforge.client.event.RegisterGuiOverlaysEvent;
+import net.minecraftforge.client.event.RegisterShadersEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.BuildCreativeModeTabContentsEvent;
 import net.minecraftforge.event.RegisterCommandsEvent;
@@ -21,6 +24,13 @@ import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.tasuposed.projectredacted.client.EntityRendererRegistry;
+import net.tasuposed.projectredacted.client.effects.ClientScheduler;
+import net.tasuposed.projectredacted.client.effects.ClientStatusReporter;
+import net.tasuposed.projectredacted.client.effects.ClientWarmup;
+import net.tasuposed.projectredacted.client.effects.EffectSequencer;
+import net.tasuposed.projectredacted.client.effects.FogEffectHandler;
+import net.tasuposed.projectredacted.client.effects.NoiseAtlas;
+import net.tasuposed.projectredacted.client.effects.PhantomApparitionHandler;
 import net.tasuposed.projectredacted.client.effects.ScreenEffectHandler;
 import net.tasuposed.projectredacted.command.HorrorCommands;
 import net.tasuposed.projectredacted.config.Config;
@@ -140,7 +150,16 @@ public class ProjectRedacted
             LOGGER.info("Project REDACTED client initialization");
             
             // Initialize client-side effect handlers
+            ClientScheduler.init();
             ScreenEffectHandler.init();
+            PhantomApparitionHandler.init();
+            EffectSequencer.init();
+            ClientStatusReporter.init();
+            FogEffectHandler.init();
+            ClientWarmup.init();
+            
+            // Textures have to be created on the render thread
+            event.enqueueWork(NoiseAtlas::init);
         }
         
         @SubscribeEvent
@@ -149,6 +168,12 @@ public class ProjectRedacted
             ScreenEffectHandler.registerOverlay(event);
         }
         
+        @SubscribeEvent
+        public static void registerShaders(RegisterShadersEvent event) throws IOException {
+            // Full-screen shaders for the screen effect overlay
+            ScreenEffectHandler.registerShaders(event);
+        }
+        
         @SubscribeEvent
         public static void registerEntityRenderers(EntityRenderersEvent.RegisterRenderers event) {
             LOGGER.info("Registering entity renderers for Project REDACTED");
@@ -0,0 +1,211 @@
+package net.tasuposed.projectredacted.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Axis;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.model.PlayerModel;
+import net.minecraft.client.model.geom.ModelLayers;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.entity.EntityRendererProvider;
+import net.minecraft.client.renderer.entity.HumanoidMobRenderer;
+import net.minecraft.client.renderer.entity.LivingEntityRenderer;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Mob;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.tasuposed.projectredacted.ProjectRedacted;
+
+/**
+ * Player-shaped renderer for the horror entities with a distance LOD.
+ *
+ * Up close it draws the full PlayerModel. Past IMPOSTOR_DISTANCE it draws a single upright quad
+ * turned towards the camera, textured with a front or back view of the model baked from its skin.
+ * At that range the model is only a few pixels tall anyway, so you can't tell the difference.
+ * The impostor is baked when the renderer is built, not at the first far sighting.
+ */
+@OnlyIn(Dist.CLIENT)
+public class HorrorEntityRenderer<T extends Mob> extends HumanoidMobRenderer<T, PlayerModel<T>> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HorrorEntityRenderer.class);
+
+    // Beyond this the model is small enough on screen to swap for the impostor
+    private static final double IMPOSTOR_DISTANCE = 32.0;
+    private static final double IMPOSTOR_DISTANCE_SQR = IMPOSTOR_DISTANCE * IMPOSTOR_DISTANCE;
+
+    // The impostor holds the front view on the left half and the back view on the right
+    private static final int VIEW_WIDTH = 16;
+    private static final int VIEW_HEIGHT = 32;
+
+    // Model is 16 pixels wide and 32 tall at 1/16 block per pixel
+    private static final float HALF_WIDTH = 0.5f;
+    private static final float HEIGHT = 2.0f;
+
+    // Skin regions for each view: source x, y, width, height, then where they go in the view.
+    // Base layers come first so the outer layers (hat, jacket, sleeves, pants) land on top.
+    private static final int[][] FRONT_VIEW = {
+        {8, 8, 8, 8, 4, 0},     // Head
+        {20, 20, 8, 12, 4, 8},  // Body
+        {44, 20, 4, 12, 0, 8},  // Right arm - on the viewer's left
+        {36, 52, 4, 12, 12, 8}, // Left arm
+        {4, 20, 4, 12, 4, 20},  // Right leg
+        {20, 52, 4, 12, 8, 20}, // Left leg
+        {40, 8, 8, 8, 4, 0},    // Hat
+        {20, 36, 8, 12, 4, 8},  // Jacket
+        {44, 36, 4, 12, 0, 8},  // Right sleeve
+        {52, 52, 4, 12, 12, 8}, // Left sleeve
+        {4, 36, 4, 12, 4, 20},  // Right pants leg
+        {4, 52, 4, 12, 8, 20}   // Left pants leg
+    };
+    private static final int[][] BACK_VIEW = {
+        {24, 8, 8, 8, 4, 0},
+        {32, 20, 8, 12, 4, 8},
+        {52, 20, 4, 12, 12, 8},
+        {44, 52, 4, 12, 0, 8},
+        {12, 20, 4, 12, 8, 20},
+        {28, 52, 4, 12, 4, 20},
+        {56, 8, 8, 8, 4, 0},
+        {32, 36, 8, 12, 4, 8},
+        {52, 36, 4, 12, 12, 8},
+        {60, 52, 4, 12, 0, 8},
+        {12, 36, 4, 12, 8, 20},
+        {12, 52, 4, 12, 4, 20}
+    };
+
+    private final ResourceLocation texture;
+
+    // Baked up front, so the first far sighting doesn't stall on reading the skin.
+    // Null if the skin couldn't be read - the full model is drawn at every distance then.
+    private final ResourceLocation impostorLocation;
+
+    public HorrorEntityRenderer(EntityRendererProvider.Context context, ResourceLocation texture) {
+        super(context, new PlayerModel<>(context.bakeLayer(ModelLayers.PLAYER), false), 0.5F);
+        this.texture = texture;
+
+        // Renderers are built during resource reload on the render thread, so uploading here is safe
+        this.impostorLocation = bakeImpostor(context.getResourceManager(), texture);
+    }
+
+    @Override
+    public ResourceLocation getTextureLocation(T entity) {
+        return texture;
+    }
+
+    @Override
+    public void render(T entity, float entityYaw, float partialTick, PoseStack poseStack,
+                       MultiBufferSource buffer, int packedLight) {
+        if (impostorLocation != null && useImpostor(entity)) {
+            renderImpostor(entity, impostorLocation, partialTick, poseStack, buffer, packedLight);
+            return;
+        }
+
+        super.render(entity, entityYaw, partialTick, poseStack, buffer, packedLight);
+    }
+
+    /**
+     * Far away, and nothing the impostor can't show - invisibility, outlines and death
+     * animations still go through the full model
+     */
+    private boolean useImpostor(T entity) {
+        return entityRenderDispatcher.distanceToSqr(entity) > IMPOSTOR_DISTANCE_SQR
+                && !entity.isInvisible()
+                && entity.deathTime == 0
+                && !Minecraft.getInstance().shouldEntityAppearGlowing(entity);
+    }
+
+    private void renderImpostor(T entity, ResourceLocation impostor, float partialTick, PoseStack poseStack,
+                                MultiBufferSource buffer, int packedLight) {
+        float cameraYaw = entityRenderDispatcher.camera.getYRot();
+
+        // Show the back when the entity faces away from the camera
+        float bodyYaw = Mth.rotLerp(partialTick, entity.yBodyRotO, entity.yBodyRot);
+        boolean front = Math.abs(Mth.wrapDegrees(bodyYaw - cameraYaw)) > 90.0f;
+        float u0 = front ? 0.0f : 0.5f;
+        float u1 = u0 + 0.5f;
+
+        poseStack.pushPose();
+        // Turn around the vertical axis only, so the figure stays upright when looked down on
+        poseStack.mulPose(Axis.YP.rotationDegrees(180.0f - cameraYaw));
+
+        PoseStack.Pose pose = poseStack.last();
+        Matrix4f matrix = pose.pose();
+        Matrix3f normal = pose.normal();
+        int overlay = LivingEntityRenderer.getOverlayCoords(entity, 0.0f);
+        VertexConsumer consumer = buffer.getBuffer(RenderType.entityCutoutNoCull(impostor));
+
+        vertex(consumer, matrix, normal, -HALF_WIDTH, 0.0f, u0, 1.0f, overlay, packedLight);
+        vertex(consumer, matrix, normal, HALF_WIDTH, 0.0f, u1, 1.0f, overlay, packedLight);
+        vertex(consumer, matrix, normal, HALF_WIDTH, HEIGHT, u1, 0.0f, overlay, packedLight);
+        vertex(consumer, matrix, normal, -HALF_WIDTH, HEIGHT, u0, 0.0f, overlay, packedLight);
+
+        poseStack.popPose();
+    }
+
+    private static void vertex(VertexConsumer consumer, Matrix4f matrix, Matrix3f normal, float x, float y,
+                               float u, float v, int overlay, int packedLight) {
+        consumer.vertex(matrix, x, y, 0.0f)
+                .color(255, 255, 255, 255)
+                .uv(u, v)
+                .overlayCoords(overlay)
+                .uv2(packedLight)
+                .normal(normal, 0.0f, 1.0f, 0.0f)
+                .endVertex();
+    }
+
+    /**
+     * Copy the front and back faces of each body part out of the skin into a flat picture of the model
+     * @return The registered impostor texture, or null if the skin couldn't be read
+     */
+    private static ResourceLocation bakeImpostor(ResourceManager resourceManager, ResourceLocation texture) {
+        try (InputStream stream = resourceManager.open(texture);
+             NativeImage skin = NativeImage.read(stream)) {
+            if (skin.getWidth() < 64 || skin.getHeight() < 64) {
+                throw new IOException("Expected a 64x64 skin, got " + skin.getWidth() + "x" + skin.getHeight());
+            }
+
+            // Starts out fully transparent
+            NativeImage impostor = new NativeImage(VIEW_WIDTH * 2, VIEW_HEIGHT, true);
+            copyView(skin, impostor, FRONT_VIEW, 0);
+            copyView(skin, impostor, BACK_VIEW, VIEW_WIDTH);
+
+            String path = texture.getPath();
+            String name = path.substring(path.lastIndexOf('/') + 1).replace(".png", "");
+            ResourceLocation location = new ResourceLocation(ProjectRedacted.MODID, "dynamic/impostor/" + name);
+
+            // Renderers are rebuilt on resource reload, which re-registers this and frees the old one
+            Minecraft.getInstance().getTextureManager().register(location, new DynamicTexture(impostor));
+            return location;
+        } catch (IOException e) {
+            // Keep drawing the full model at every distance
+            LOGGER.warn("Couldn't bake impostor for {}: {}", texture, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void copyView(NativeImage skin, NativeImage impostor, int[][] parts, int offsetX) {
+        for (int[] part : parts) {
+            for (int y = 0; y < part[3]; y++) {
+                for (int x = 0; x < part[2]; x++) {
+                    int color = skin.getPixelRGBA(part[0] + x, part[1] + y);
+                    // Outer layers are mostly empty - only copy what's actually drawn
+                    if ((color >>> 24) != 0) {
+                        impostor.setPixelRGBA(offsetX + part[4] + x, part[5] + y, color);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package net.tasuposed.projectredacted.client.effects;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+/**
+ * Client-side counterpart to DeadlineQueue for delayed follow-ups to effects.
+ *
+ * Everything runs off one permanent tick listener, so effects never need to register their own
+ * listener on the event bus. Tasks can be keyed: scheduling under a key that already has a
+ * pending task replaces it, and cancelling by key is O(1).
+ */
+@OnlyIn(Dist.CLIENT)
+public class ClientScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientScheduler.class);
+    public static ClientScheduler INSTANCE;
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>(
+            (a, b) -> a.tick != b.tick ? Long.compare(a.tick, b.tick) : Long.compare(a.order, b.order));
+
+    // Pending task for each key - at most one per key
+    private final Map<Object, Task> keyed = new HashMap<>();
+
+    private long currentTick = 0;
+    private long scheduledCount = 0;
+
+    private ClientScheduler() {
+        // Register for tick events
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    /**
+     * Initialize the scheduler
+     */
+    public static void init() {
+        if (INSTANCE == null) {
+            INSTANCE = new ClientScheduler();
+        }
+    }
+
+    /**
+     * Run an action after the given number of client ticks
+     * @return Handle that can be used to cancel the task
+     */
+    public Task schedule(int delayTicks, Runnable action) {
+        return schedule(null, delayTicks, action);
+    }
+
+    /**
+     * Run an action after the given number of client ticks, replacing any task pending under the same key
+     * @param key Usually the effect the follow-up belongs to, or null for an unkeyed task
+     * @return Handle that can be used to cancel the task
+     */
+    public Task schedule(Object key, int delayTicks, Runnable action) {
+        Task task = new Task(key, currentTick + Math.max(1, delayTicks), scheduledCount++, action);
+        if (key != null) {
+            Task previous = keyed.put(key, task);
+            if (previous != null) {
+                previous.cancelled = true;
+            }
+        }
+        queue.add(task);
+        return task;
+    }
+
+    /**
+     * Cancel the task pending under the given key, if any
+     * @return Whether a task was cancelled
+     */
+    public boolean cancel(Object key) {
+        Task task = keyed.remove(key);
+        if (task == null) {
+            return false;
+        }
+        task.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Whether a task is pending under the given key
+     */
+    public boolean isScheduled(Object key) {
+        return keyed.containsKey(key);
+    }
+
+    /**
+     * Run all tasks that are due
+     */
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        // Follow-ups belong to effects on game time, so hold them while the game is paused
+        if (Minecraft.getInstance().isPaused()) {
+            return;
+        }
+
+        currentTick++;
+
+        while (!queue.isEmpty() && queue.peek().tick <= currentTick) {
+            Task task = queue.poll();
+            if (task.cancelled) {
+                continue;
+            }
+
+            if (task.key != null) {
+                keyed.remove(task.key);
+            }
+
+            try {
+                task.action.run();
+            } catch (Exception e) {
+                // Never let one broken follow-up stop the rest of the queue
+                LOGGER.error("Error running scheduled client task: ", e);
+            }
+        }
+    }
+
+    /**
+     * Drop pending tasks when leaving a world
+     */
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        for (Task task : queue) {
+            task.cancelled = true;
+        }
+        queue.clear();
+        keyed.clear();
+    }
+
+    /**
+     * A single scheduled follow-up
+     */
+    public class Task {
+        private final Object key;
+        private final long tick;
+        private final long order;
+        private final Runnable action;
+        private boolean cancelled = false;
+
+        private Task(Object key, long tick, long order, Runnable action) {
+            this.key = key;
+            this.tick = tick;
+            this.order = order;
+            this.action = action;
+        }
+
+        /**
+         * Cancel this task - it stays in the queue but won't run
+         */
+        public void cancel() {
+            this.cancelled = true;
+            if (key != null) {
+                keyed.remove(key, this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
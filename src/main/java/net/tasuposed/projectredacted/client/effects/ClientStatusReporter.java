@@ -0,0 +1,139 @@
+package net.tasuposed.projectredacted.client.effects;
+
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.packets.ClientStatusPacket;
+
+/**
+ * Measures how the client is coping and reports it to the server every few seconds,
+ * so the server can go easy on machines that are already struggling.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ClientStatusReporter {
+    public static ClientStatusReporter INSTANCE;
+
+    // Report every 3 seconds
+    private static final int REPORT_INTERVAL = 60;
+
+    // Weight of the newest frame in the moving average
+    private static final float SMOOTHING = 0.05f;
+
+    // Longer gaps are loading screens or window drags, not real frames
+    private static final long MAX_FRAME_NANOS = 1_000_000_000L;
+
+    private long lastFrameNanos = 0;
+    private float smoothedFrameMillis = 0.0f;
+    private int tickCounter = 0;
+
+    private ClientStatusReporter() {
+        // Register for tick and render events
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    /**
+     * Initialize the reporter
+     */
+    public static void init() {
+        if (INSTANCE == null) {
+            INSTANCE = new ClientStatusReporter();
+        }
+    }
+
+    /**
+     * Current smoothed frame time in milliseconds
+     */
+    public float getSmoothedFrameMillis() {
+        return smoothedFrameMillis;
+    }
+
+    /**
+     * Track frame time
+     */
+    @SubscribeEvent
+    public void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long frameNanos = now - lastFrameNanos;
+        lastFrameNanos = now;
+
+        if (frameNanos <= 0 || frameNanos > MAX_FRAME_NANOS) {
+            return;
+        }
+
+        float frameMillis = frameNanos / 1_000_000.0f;
+        if (smoothedFrameMillis == 0.0f) {
+            smoothedFrameMillis = frameMillis;
+        } else {
+            smoothedFrameMillis += (frameMillis - smoothedFrameMillis) * SMOOTHING;
+        }
+    }
+
+    /**
+     * Send a report every REPORT_INTERVAL ticks while in a world
+     */
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || ++tickCounter < REPORT_INTERVAL) {
+            return;
+        }
+        tickCounter = 0;
+
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.player == null || minecraft.getConnection() == null || smoothedFrameMillis == 0.0f) {
+            return;
+        }
+
+        NetworkHandler.sendToServer(new ClientStatusPacket(smoothedFrameMillis, countActiveEffects(), getFeatures()));
+    }
+
+    /**
+     * Start measuring from scratch in the next world
+     */
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        smoothedFrameMillis = 0.0f;
+        tickCounter = 0;
+    }
+
+    private static int countActiveEffects() {
+        int count = 0;
+        if (ScreenEffectHandler.INSTANCE != null) {
+            count += ScreenEffectHandler.INSTANCE.getActiveLayerCount();
+        }
+        if (TextureManager.INSTANCE != null && TextureManager.INSTANCE.isGlitchActive()) {
+            count++;
+        }
+        if (PhantomApparitionHandler.INSTANCE != null) {
+            count += PhantomApparitionHandler.INSTANCE.getActiveCount();
+        }
+        if (EffectSequencer.INSTANCE != null) {
+            count += EffectSequencer.INSTANCE.getPendingCount();
+        }
+        return count;
+    }
+
+    private static int getFeatures() {
+        int features = 0;
+        if (ScreenEffectHandler.INSTANCE != null) {
+            features |= ClientStatusPacket.FEATURE_SCREEN_EFFECTS;
+        }
+        // The texture manager starts lazily on the first glitch, so it only needs the class
+        features |= ClientStatusPacket.FEATURE_TEXTURE_GLITCHES;
+        if (PhantomApparitionHandler.INSTANCE != null) {
+            features |= ClientStatusPacket.FEATURE_APPARITIONS;
+        }
+        if (EffectSequencer.INSTANCE != null) {
+            features |= ClientStatusPacket.FEATURE_TIMELINES;
+        }
+        return features;
+    }
+}
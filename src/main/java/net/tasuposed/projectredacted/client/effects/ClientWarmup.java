@@ -0,0 +1,189 @@
+package net.tasuposed.projectredacted.client.effects;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.entity.EntityRenderer;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.registries.RegistryObject;
+import net.tasuposed.projectredacted.entity.EntityRegistry;
+import net.tasuposed.projectredacted.network.packets.ChatMessagePacket;
+import net.tasuposed.projectredacted.network.packets.EffectTimelinePacket;
+import net.tasuposed.projectredacted.network.packets.FakeCrashPacket;
+import net.tasuposed.projectredacted.network.packets.GlitchEntityPacket;
+import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
+import net.tasuposed.projectredacted.network.packets.InventoryShiftPacket;
+import net.tasuposed.projectredacted.network.packets.ParticleBatchPacket;
+import net.tasuposed.projectredacted.network.packets.PhantomApparitionPacket;
+import net.tasuposed.projectredacted.network.packets.PlaySoundPacket;
+import net.tasuposed.projectredacted.network.packets.RenderDistancePacket;
+import net.tasuposed.projectredacted.network.packets.TextureGlitchPacket;
+import net.tasuposed.projectredacted.sound.SoundRegistry;
+
+/**
+ * Loads everything a horror beat needs shortly after joining a world, so the first scare
+ * doesn't stall on textures, sounds or class loading at the exact moment it should land.
+ *
+ * The work is split into small steps run one per tick through the ClientScheduler,
+ * so no single frame takes the whole hit either.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ClientWarmup {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientWarmup.class);
+    public static ClientWarmup INSTANCE;
+
+    // Let the world finish loading in before adding more work
+    private static final int START_DELAY = 40;
+
+    // Entities that can actually be seen - the invisible ones use a NoopRenderer
+    private static final List<RegistryObject<? extends EntityType<?>>> VISIBLE_ENTITIES = List.of(
+            EntityRegistry.ITERATION,
+            EntityRegistry.PROTOCOL_37,
+            EntityRegistry.DISTANT_STALKER,
+            EntityRegistry.ANGRY_PROTOCOL_37);
+
+    // Everything the server can send, plus the handlers they start
+    private static final List<Class<?>> EFFECT_CLASSES = List.of(
+            GlitchEntityPacket.class, GlitchScreenPacket.class, PlaySoundPacket.class,
+            TextureGlitchPacket.class, FakeCrashPacket.class, InventoryShiftPacket.class,
+            RenderDistancePacket.class, PhantomApparitionPacket.class, ParticleBatchPacket.class,
+            EffectTimelinePacket.class, ChatMessagePacket.class,
+            FogEffectHandler.class, PhantomApparitionHandler.class, TextureManager.class);
+
+    private final List<Runnable> steps = List.of(
+            this::warmSounds,
+            this::warmRenderers,
+            this::warmScreens,
+            this::warmEffectClasses,
+            this::warmTextureGlitches);
+
+    private long elapsedNanos = 0;
+    private boolean done = false;
+
+    private ClientWarmup() {
+        // Register for login events
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    /**
+     * Initialize the warm-up
+     */
+    public static void init() {
+        ClientScheduler.init();
+        if (INSTANCE == null) {
+            INSTANCE = new ClientWarmup();
+        }
+    }
+
+    /**
+     * Queue the warm-up on the first world joined. Later joins reuse what's already loaded.
+     */
+    @SubscribeEvent
+    public void onLoggingIn(ClientPlayerNetworkEvent.LoggingIn event) {
+        if (!done) {
+            elapsedNanos = 0;
+            scheduleStep(0, START_DELAY);
+        }
+    }
+
+    private void scheduleStep(int index, int delay) {
+        // Keyed so joining again before we finish doesn't start a second run
+        ClientScheduler.INSTANCE.schedule(this, delay, () -> runStep(index));
+    }
+
+    private void runStep(int index) {
+        long start = System.nanoTime();
+        try {
+            steps.get(index).run();
+        } catch (Exception e) {
+            // A failed step only means that part loads on first use, as before
+            LOGGER.warn("Client warm-up step {} failed: ", index, e);
+        }
+        elapsedNanos += System.nanoTime() - start;
+
+        if (index + 1 < steps.size()) {
+            scheduleStep(index + 1, 1);
+        } else {
+            done = true;
+            LOGGER.debug("Client warm-up finished in {} ms over {} ticks",
+                    elapsedNanos / 1_000_000L, steps.size());
+        }
+    }
+
+    /**
+     * Resolve every sound event. The short OGGs are marked preload in sounds.json,
+     * so the sound engine has already decoded them by the time they're resolved here.
+     */
+    private void warmSounds() {
+        Minecraft minecraft = Minecraft.getInstance();
+        for (RegistryObject<SoundEvent> sound : SoundRegistry.SOUND_EVENTS.getEntries()) {
+            if (minecraft.getSoundManager().getSoundEvent(sound.getId()) == null) {
+                LOGGER.debug("No sounds.json entry for {}", sound.getId());
+            }
+        }
+    }
+
+    /**
+     * Look up the renderer for a throwaway instance of each entity and upload its texture
+     */
+    private void warmRenderers() {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.level == null) {
+            return;
+        }
+
+        for (RegistryObject<? extends EntityType<?>> type : VISIBLE_ENTITIES) {
+            // Never added to the level, just dropped afterwards
+            Entity dummy = type.get().create(minecraft.level);
+            if (dummy == null) {
+                continue;
+            }
+
+            EntityRenderer<? super Entity> renderer = minecraft.getEntityRenderDispatcher().getRenderer(dummy);
+            ResourceLocation texture = renderer.getTextureLocation(dummy);
+            minecraft.getTextureManager().getTexture(texture);
+        }
+    }
+
+    /**
+     * Build and lay out a fake crash screen without showing it
+     */
+    private void warmScreens() {
+        Minecraft minecraft = Minecraft.getInstance();
+        ScreenEffectHandler.FakeCrashScreen screen = new ScreenEffectHandler.FakeCrashScreen("");
+        screen.init(minecraft, minecraft.getWindow().getGuiScaledWidth(), minecraft.getWindow().getGuiScaledHeight());
+    }
+
+    /**
+     * Load and initialize the effect classes
+     */
+    private void warmEffectClasses() {
+        ClassLoader loader = ClientWarmup.class.getClassLoader();
+        for (Class<?> effectClass : EFFECT_CLASSES) {
+            try {
+                Class.forName(effectClass.getName(), true, loader);
+            } catch (ClassNotFoundException e) {
+                LOGGER.debug("Could not load {}", effectClass.getName());
+            }
+        }
+    }
+
+    /**
+     * Start the background bake of the texture glitch variants
+     */
+    private void warmTextureGlitches() {
+        TextureManager.init();
+        TextureManager.INSTANCE.prepare();
+    }
+}
@@ -0,0 +1,83 @@
+package net.tasuposed.projectredacted.client.effects;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.tasuposed.projectredacted.network.packets.EffectTimelinePacket;
+import net.tasuposed.projectredacted.network.packets.HorrorEffect;
+
+/**
+ * Plays back effect timelines sent by the server.
+ * Each entry is scheduled on the ClientScheduler relative to when its timeline arrived.
+ */
+@OnlyIn(Dist.CLIENT)
+public class EffectSequencer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EffectSequencer.class);
+    public static EffectSequencer INSTANCE;
+
+    // Entries handed to the scheduler that haven't played yet
+    private int pendingCount = 0;
+
+    private EffectSequencer() {
+        // Register for logout events
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    /**
+     * Initialize the sequencer
+     */
+    public static void init() {
+        ClientScheduler.init();
+        if (INSTANCE == null) {
+            INSTANCE = new EffectSequencer();
+        }
+    }
+
+    /**
+     * Start playing a timeline. Entries due right away are applied immediately.
+     */
+    public void play(List<EffectTimelinePacket.Entry> entries) {
+        for (EffectTimelinePacket.Entry entry : entries) {
+            HorrorEffect effect = entry.getEffect();
+            if (entry.getTick() <= 0) {
+                apply(effect);
+            } else {
+                pendingCount++;
+                ClientScheduler.INSTANCE.schedule(entry.getTick(), () -> {
+                    pendingCount--;
+                    apply(effect);
+                });
+            }
+        }
+    }
+
+    /**
+     * Number of timeline entries still waiting to play
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * The scheduler drops pending timelines when leaving a world
+     */
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        pendingCount = 0;
+    }
+
+    private static void apply(HorrorEffect effect) {
+        try {
+            effect.applyOnClient();
+        } catch (Exception e) {
+            LOGGER.error("Error applying timeline effect {}: ", effect.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package net.tasuposed.projectredacted.client.effects;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.util.Mth;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.client.event.ViewportEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
+
+/**
+ * Pulls the fog in to make the world feel smaller than it is. Looks like a reduced render
+ * distance, but no chunks are dropped, so there's no mesh rebuild going in or coming out.
+ */
+@OnlyIn(Dist.CLIENT)
+public class FogEffectHandler {
+    public static FogEffectHandler INSTANCE;
+
+    // Ticks spent closing in and lifting again
+    private static final float FADE_TICKS = 20.0f;
+
+    // How much darker the fog gets at full strength
+    private static final float DARKEN = 0.6f;
+
+    private float targetDistance = 0.0f; // Fog end in blocks
+    private int duration = 0;
+    private int age = 0;
+
+    private FogEffectHandler() {
+        // Register for fog and tick events
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    /**
+     * Initialize the fog handler
+     */
+    public static void init() {
+        ClientScheduler.init();
+        if (INSTANCE == null) {
+            INSTANCE = new FogEffectHandler();
+        }
+    }
+
+    /**
+     * Close the fog in to the given number of chunks
+     * @param chunks Perceived render distance in chunks
+     * @param duration Duration in ticks, including the fade in and out
+     * @param flashOnLift Whether to flash static when the fog lifts
+     */
+    public void startFog(int chunks, int duration, boolean flashOnLift) {
+        this.targetDistance = Math.max(2, chunks) * 16.0f;
+        this.duration = duration;
+        this.age = 0;
+
+        // A newer fog replaces the pending flash of the old one
+        if (flashOnLift) {
+            ClientScheduler.INSTANCE.schedule(this, duration, () -> {
+                // Brief static as normal view comes back
+                if (ScreenEffectHandler.INSTANCE != null) {
+                    ScreenEffectHandler.INSTANCE.startEffect(GlitchScreenPacket.EFFECT_STATIC, 0.4f, 15);
+                }
+            });
+        } else {
+            ClientScheduler.INSTANCE.cancel(this);
+        }
+    }
+
+    /**
+     * Lift the fog immediately
+     */
+    public void stopFog() {
+        this.duration = 0;
+        this.age = 0;
+        ClientScheduler.INSTANCE.cancel(this);
+    }
+
+    /**
+     * Whether the fog is currently closed in
+     */
+    public boolean isFogActive() {
+        return age < duration;
+    }
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !isFogActive() || Minecraft.getInstance().isPaused()) {
+            return;
+        }
+
+        age++;
+    }
+
+    /**
+     * Move the fog end in towards the target distance
+     */
+    @SubscribeEvent
+    public void onRenderFog(ViewportEvent.RenderFog event) {
+        float strength = getStrength((float) event.getPartialTick());
+        if (strength <= 0.0f) {
+            return;
+        }
+
+        float far = Mth.lerp(strength, event.getFarPlaneDistance(), Math.min(targetDistance, event.getFarPlaneDistance()));
+        event.setFarPlaneDistance(far);
+        event.setNearPlaneDistance(Math.min(event.getNearPlaneDistance(), far * 0.1f));
+
+        // Forge only applies the new distances if the event is cancelled
+        event.setCanceled(true);
+    }
+
+    /**
+     * Darken the fog so the edge of the world reads as a wall rather than haze
+     */
+    @SubscribeEvent
+    public void onComputeFogColor(ViewportEvent.ComputeFogColor event) {
+        float strength = getStrength((float) event.getPartialTick());
+        if (strength <= 0.0f) {
+            return;
+        }
+
+        float scale = 1.0f - DARKEN * strength;
+        event.setRed(event.getRed() * scale);
+        event.setGreen(event.getGreen() * scale);
+        event.setBlue(event.getBlue() * scale);
+    }
+
+    /**
+     * Drop the fog when leaving a world
+     */
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        stopFog();
+    }
+
+    /**
+     * How closed in the fog is right now, 0-1, smooth between ticks
+     */
+    private float getStrength(float partialTick) {
+        if (!isFogActive()) {
+            return 0.0f;
+        }
+
+        // Short effects fade faster so they still reach full strength
+        float fade = Math.min(FADE_TICKS, duration / 4.0f);
+        float time = age + partialTick;
+        float strength = Math.min(1.0f, Math.min(time / fade, (duration - time) / fade));
+        return Math.max(0.0f, strength);
+    }
+}
@@ -0,0 +1,66 @@
+package net.tasuposed.projectredacted.client.effects;
+
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mojang.blaze3d.platform.NativeImage;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.tasuposed.projectredacted.ProjectRedacted;
+
+/**
+ * Noise texture baked once at client setup and sampled by the screen effect shader,
+ * so the overlays don't need any random numbers while rendering.
+ *
+ * Each texel holds independent noise in every channel: red for static grain,
+ * green for whether a corruption block shows, blue for its colour.
+ * The shader scrolls through it with a different offset every tick.
+ */
+@OnlyIn(Dist.CLIENT)
+public class NoiseAtlas {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NoiseAtlas.class);
+
+    public static final ResourceLocation LOCATION = new ResourceLocation(ProjectRedacted.MODID, "dynamic/noise_atlas");
+
+    // Must match NOISE_SIZE in horror_overlay.fsh
+    private static final int SIZE = 256;
+
+    // Fixed seed - the pattern never needs to change between runs
+    private static final long SEED = 0x5EEDL;
+
+    private static DynamicTexture texture;
+
+    /**
+     * Bake the atlas and register it with the texture manager. Must run on the render thread.
+     */
+    public static void init() {
+        if (texture != null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Random random = new Random(SEED);
+        NativeImage image = new NativeImage(NativeImage.Format.RGBA, SIZE, SIZE, false);
+
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                int red = random.nextInt(256);
+                int green = random.nextInt(256);
+                int blue = random.nextInt(256);
+                // NativeImage wants ABGR
+                image.setPixelRGBA(x, y, 0xFF000000 | (blue << 16) | (green << 8) | red);
+            }
+        }
+
+        texture = new DynamicTexture(image);
+        Minecraft.getInstance().getTextureManager().register(LOCATION, texture);
+
+        LOGGER.debug("Baked {}x{} noise atlas in {} ms", SIZE, SIZE, (System.nanoTime() - start) / 1_000_000L);
+    }
+}
@@ -0,0 +1,278 @@
+package net.tasuposed.projectredacted.client.effects;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.tasuposed.projectredacted.entity.EntityRegistry;
+import net.tasuposed.projectredacted.network.packets.PhantomApparitionPacket;
+
+/**
+ * Handles client-only apparitions of horror entities.
+ * These are never added to the level - we just keep a detached entity instance around
+ * and draw it with its normal renderer until its lifetime runs out.
+ */
+@OnlyIn(Dist.CLIENT)
+public class PhantomApparitionHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhantomApparitionHandler.class);
+    public static PhantomApparitionHandler INSTANCE;
+
+    // Never keep more than a handful of apparitions around
+    private static final int MAX_APPARITIONS = 8;
+
+    // How closely the player has to look at an apparition for it to vanish
+    private static final double LOOK_THRESHOLD = 0.98;
+    private static final double LOOK_DISTANCE = 30.0;
+
+    private final List<Apparition> apparitions = new ArrayList<>();
+    private final Random random = new Random();
+
+    private PhantomApparitionHandler() {
+        // Register for tick and rendering events
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    /**
+     * Initialize the apparition handler
+     */
+    public static void init() {
+        if (INSTANCE == null) {
+            INSTANCE = new PhantomApparitionHandler();
+        }
+    }
+
+    /**
+     * Show a new apparition
+     * @param type Apparition type from PhantomApparitionPacket
+     * @param position Where the apparition stands
+     * @param lookTarget The point it stares at
+     * @param lifetime Total lifetime in ticks
+     * @param fadeTicks Ticks spent flickering out at the end
+     * @param flags Behaviour flags from PhantomApparitionPacket
+     */
+    public void spawnApparition(int type, Vec3 position, Vec3 lookTarget, int lifetime, int fadeTicks, int flags) {
+        Minecraft minecraft = Minecraft.getInstance();
+        ClientLevel level = minecraft.level;
+        if (level == null || lifetime <= 0) {
+            return;
+        }
+
+        EntityType<? extends LivingEntity> entityType = getEntityType(type);
+        if (entityType == null) {
+            LOGGER.warn("Unknown apparition type {}", type);
+            return;
+        }
+
+        LivingEntity entity = entityType.create(level);
+        if (entity == null) {
+            LOGGER.error("Failed to create apparition entity of type {}", entityType.getDescriptionId());
+            return;
+        }
+
+        // Face the look target
+        double dx = lookTarget.x - position.x;
+        double dy = lookTarget.y - (position.y + entity.getEyeHeight());
+        double dz = lookTarget.z - position.z;
+        float yaw = (float) (Mth.atan2(dz, dx) * (180.0 / Math.PI)) - 90.0F;
+        float pitch = (float) (-(Mth.atan2(dy, Math.sqrt(dx * dx + dz * dz)) * (180.0 / Math.PI)));
+
+        entity.moveTo(position.x, position.y, position.z, yaw, pitch);
+        entity.yHeadRot = yaw;
+        entity.yHeadRotO = yaw;
+        entity.yBodyRot = yaw;
+        entity.yBodyRotO = yaw;
+
+        // Drop the oldest apparition if we're at the cap
+        if (apparitions.size() >= MAX_APPARITIONS) {
+            apparitions.remove(0);
+        }
+
+        apparitions.add(new Apparition(entity, lifetime, Math.min(fadeTicks, lifetime), flags));
+    }
+
+    /**
+     * Remove all active apparitions
+     */
+    public void clearApparitions() {
+        apparitions.clear();
+    }
+
+    /**
+     * Number of apparitions currently shown
+     */
+    public int getActiveCount() {
+        return apparitions.size();
+    }
+
+    /**
+     * Map an apparition type to the entity type whose renderer draws it
+     */
+    private static EntityType<? extends LivingEntity> getEntityType(int type) {
+        switch (type) {
+            case PhantomApparitionPacket.TYPE_ITERATION:
+                return EntityRegistry.ITERATION.get();
+            case PhantomApparitionPacket.TYPE_PROTOCOL_37:
+                return EntityRegistry.PROTOCOL_37.get();
+            case PhantomApparitionPacket.TYPE_SHADOW_FIGURE:
+                return EntityRegistry.DISTANT_STALKER.get();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Age apparitions once per client tick
+     */
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || apparitions.isEmpty()) {
+            return;
+        }
+
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.level == null || minecraft.player == null) {
+            clearApparitions();
+            return;
+        }
+
+        // Don't age apparitions while the game is paused
+        if (minecraft.isPaused()) {
+            return;
+        }
+
+        Iterator<Apparition> iterator = apparitions.iterator();
+        while (iterator.hasNext()) {
+            Apparition apparition = iterator.next();
+
+            // Apparitions belong to the level they were spawned in
+            if (apparition.entity.level() != minecraft.level) {
+                iterator.remove();
+                continue;
+            }
+
+            // Start fading as soon as the player looks straight at it
+            if ((apparition.flags & PhantomApparitionPacket.FLAG_VANISH_ON_LOOK) != 0
+                    && isPlayerLookingAt(minecraft.player, apparition.entity)) {
+                apparition.remaining = Math.min(apparition.remaining, apparition.fadeTicks);
+            }
+
+            apparition.remaining--;
+            apparition.entity.tickCount++;
+
+            if (apparition.remaining <= 0) {
+                iterator.remove();
+                continue;
+            }
+
+            // Flicker out instead of fading - the humanoid renderers don't support alpha.
+            // Rolled once per tick so the flicker rate doesn't depend on frame rate.
+            if (apparition.remaining < apparition.fadeTicks) {
+                float visibility = (float) apparition.remaining / apparition.fadeTicks;
+                apparition.visible = random.nextFloat() < visibility;
+            }
+        }
+    }
+
+    /**
+     * Draw apparitions alongside the regular entities
+     */
+    @SubscribeEvent
+    public void onRenderLevel(RenderLevelStageEvent event) {
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_ENTITIES || apparitions.isEmpty()) {
+            return;
+        }
+
+        Minecraft minecraft = Minecraft.getInstance();
+        EntityRenderDispatcher dispatcher = minecraft.getEntityRenderDispatcher();
+        MultiBufferSource.BufferSource bufferSource = minecraft.renderBuffers().bufferSource();
+        PoseStack poseStack = event.getPoseStack();
+        Vec3 camera = event.getCamera().getPosition();
+        float partialTick = event.getPartialTick();
+
+        for (Apparition apparition : apparitions) {
+            // Hidden for this tick while flickering out
+            if (!apparition.visible) {
+                continue;
+            }
+
+            LivingEntity entity = apparition.entity;
+            try {
+                dispatcher.render(entity,
+                        entity.getX() - camera.x,
+                        entity.getY() - camera.y,
+                        entity.getZ() - camera.z,
+                        entity.getYRot(),
+                        partialTick,
+                        poseStack,
+                        bufferSource,
+                        dispatcher.getPackedLightCoords(entity, partialTick));
+            } catch (Exception e) {
+                // Log error but don't crash the game if rendering fails
+                LOGGER.error("Failed to render apparition: ", e);
+            }
+        }
+
+        bufferSource.endBatch();
+    }
+
+    /**
+     * Clear apparitions when leaving a world
+     */
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        clearApparitions();
+    }
+
+    /**
+     * Check if a player is looking at an apparition
+     */
+    private static boolean isPlayerLookingAt(Player player, LivingEntity entity) {
+        Vec3 toEntity = entity.getEyePosition().subtract(player.getEyePosition());
+        double distance = toEntity.length();
+        if (distance > LOOK_DISTANCE || distance < 1.0E-4) {
+            return false;
+        }
+
+        return player.getViewVector(1.0F).dot(toEntity.scale(1.0 / distance)) > LOOK_THRESHOLD;
+    }
+
+    /**
+     * A single client-side apparition
+     */
+    private static class Apparition {
+        private final LivingEntity entity;
+        private final int fadeTicks;
+        private final int flags;
+        private int remaining;
+        private boolean visible = true;
+
+        private Apparition(LivingEntity entity, int lifetime, int fadeTicks, int flags) {
+            this.entity = entity;
+            this.remaining = lifetime;
+            this.fadeTicks = fadeTicks;
+            this.flags = flags;
+        }
+    }
+}
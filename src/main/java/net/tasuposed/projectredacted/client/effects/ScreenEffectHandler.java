@@ -1,26 +1,41 @@
 package net.tasuposed.projectredacted.client.effects;
 
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.gui.screens.TitleScreen;
 import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.renderer.ShaderInstance;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.client.gui.overlay.ForgeGui;
 import net.minecraftforge.client.gui.overlay.IGuiOverlay;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RegisterGuiOverlaysEvent;
+import net.minecraftforge.client.event.RegisterShadersEvent;
 import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
+import org.joml.Matrix4f;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Handles client-side screen effects like glitches, distortions, etc.
@@ -30,19 +45,41 @@ public class ScreenEffectHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScreenEffectHandler.class);
     public static ScreenEffectHandler INSTANCE;
     
-    // Effect type constants
-    public static final int EFFECT_STATIC = 0;
-    public static final int EFFECT_DISTORTION = 1;
-    public static final int EFFECT_CORRUPT = 2;
-    public static final int EFFECT_INVERT = 3;
+    // One layer slot per effect type, so the cost of a frame is bounded no matter how many
+    // effects the server sends. A new effect of a type already running replaces that layer.
+    private static final int MAX_LAYERS = 4;
     
-    private int currentEffect = -1;
-    private float effectIntensity = 0.0f;
-    private int effectDuration = 0;
-    private int effectTimer = 0;
+    // Ticks spent fading in and out
+    private static final float FADE_TICKS = 10.0f;
+    
+    // Shader passes - must match horror_overlay.fsh
+    private static final int PASS_OVERLAY = 0;
+    private static final int PASS_INVERT = 1;
+    
+    private final Layer[] layers = new Layer[MAX_LAYERS];
+    private float effectSeed = 0.0f;
+    
+    // Words flashed by the corrupt effect, picked per tick rather than per frame
+    private static final String[] CORRUPT_TEXT = {
+        "ERROR", "CORRUPT", "DELETED", "FAULT", "BREACH",
+        "01101", "NULL", "VOID", "WATCH", "SEE YOU"
+    };
+    private static final int MAX_CORRUPT_WORDS = 5;
+    private final int[] corruptWord = new int[MAX_CORRUPT_WORDS];
+    private final float[] corruptWordX = new float[MAX_CORRUPT_WORDS];
+    private final float[] corruptWordY = new float[MAX_CORRUPT_WORDS];
+    private final int[] corruptWordColor = new int[MAX_CORRUPT_WORDS];
+    private int corruptWordCount = 0;
+    
+    // Only used from the client thread, so it doesn't need to be shared or synchronized
+    private final Random random = new Random();
+    
+    // Loaded by registerShaders, null until then or if they fail to load
+    private static ShaderInstance overlayShader;
+    private static ShaderInstance invertShader;
     
     private ScreenEffectHandler() {
-        // Register for rendering events
+        // Register for tick events
         MinecraftForge.EVENT_BUS.register(this);
     }
     
@@ -80,6 +117,20 @@ public class ScreenEffectHandler {
         });
     }
     
+    /**
+     * Load the overlay shaders - called on every resource reload
+     */
+    public static void registerShaders(RegisterShadersEvent event) throws IOException {
+        event.registerShader(new ShaderInstance(event.getResourceProvider(),
+                new ResourceLocation(ProjectRedacted.MODID, "horror_overlay"), DefaultVertexFormat.POSITION_TEX),
+                shader -> overlayShader = shader);
+        
+        // Same program, but blended so it inverts whatever is underneath
+        event.registerShader(new ShaderInstance(event.getResourceProvider(),
+                new ResourceLocation(ProjectRedacted.MODID, "horror_invert"), DefaultVertexFormat.POSITION_TEX),
+                shader -> invertShader = shader);
+    }
+    
     /**
      * Start a screen effect
      * @param effectType Type of effect to start
@@ -87,20 +138,70 @@ public class ScreenEffectHandler {
      * @param duration Duration in ticks
      */
     public void startEffect(int effectType, float intensity, int duration) {
-        this.currentEffect = effectType;
-        this.effectIntensity = Math.min(1.0f, Math.max(0.0f, intensity));
-        this.effectDuration = duration;
-        this.effectTimer = 0;
+        if (effectType < 0 || effectType >= MAX_LAYERS || duration <= 0) {
+            return;
+        }
+        
+        layers[effectType] = new Layer(Math.min(1.0f, Math.max(0.0f, intensity)), duration);
+        
+        // Fresh noise pattern for every effect
+        this.effectSeed = random.nextFloat();
     }
     
     /**
-     * Stop any active screen effect
+     * Stop all active screen effects
      */
     public void stopEffect() {
-        this.currentEffect = -1;
-        this.effectIntensity = 0.0f;
-        this.effectDuration = 0;
-        this.effectTimer = 0;
+        for (int i = 0; i < MAX_LAYERS; i++) {
+            layers[i] = null;
+        }
+    }
+    
+    /**
+     * Whether a screen effect is currently running
+     */
+    public boolean isEffectActive() {
+        return getActiveLayerCount() > 0;
+    }
+    
+    /**
+     * Number of effect layers currently running
+     */
+    public int getActiveLayerCount() {
+        int count = 0;
+        for (Layer layer : layers) {
+            if (layer != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Age the layers by game ticks, so effects last as long at 30 FPS as they do at 300
+     */
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || Minecraft.getInstance().isPaused()) {
+            return;
+        }
+        
+        for (int i = 0; i < MAX_LAYERS; i++) {
+            Layer layer = layers[i];
+            if (layer != null && ++layer.age >= layer.duration) {
+                layers[i] = null;
+            }
+        }
+        
+        rollCorruptText();
+    }
+    
+    /**
+     * Drop all effects when leaving a world
+     */
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        stopEffect();
     }
     
     /**
@@ -116,247 +217,143 @@ public class ScreenEffectHandler {
     }
     
     /**
-     * Render the current effect if active
+     * Render all active effect layers
      */
     public void renderEffects(ForgeGui gui, GuiGraphics graphics, float partialTick, int width, int height) {
-        if (currentEffect == -1 || effectTimer >= effectDuration) {
-            return;
-        }
+        // Fade is worked out from ticks plus partialTick, so it's smooth at any frame rate
+        float staticIntensity = getLayerIntensity(GlitchScreenPacket.EFFECT_STATIC, partialTick);
+        float distortionIntensity = getLayerIntensity(GlitchScreenPacket.EFFECT_DISTORTION, partialTick);
+        float corruptIntensity = getLayerIntensity(GlitchScreenPacket.EFFECT_CORRUPT, partialTick);
+        float invertIntensity = getLayerIntensity(GlitchScreenPacket.EFFECT_INVERT, partialTick);
         
-        // Update effect timer
-        effectTimer++;
-        
-        // Calculate fade-in/fade-out intensity
-        float fadeIntensity = effectIntensity;
-        if (effectTimer < 10) {
-            fadeIntensity = effectIntensity * (effectTimer / 10.0f);
-        } else if (effectDuration - effectTimer < 10) {
-            fadeIntensity = effectIntensity * ((effectDuration - effectTimer) / 10.0f);
+        boolean overlay = staticIntensity > 0.0f || distortionIntensity > 0.0f || corruptIntensity > 0.0f;
+        if (!overlay && invertIntensity <= 0.0f) {
+            return;
         }
         
         try {
-            // Apply the appropriate effect
-            switch (currentEffect) {
-                case EFFECT_STATIC:
-                    renderStaticEffect(graphics, fadeIntensity, width, height);
-                    break;
-                case EFFECT_DISTORTION:
-                    renderDistortionEffect(graphics, fadeIntensity, width, height);
-                    break;
-                case EFFECT_CORRUPT:
-                    renderCorruptEffect(graphics, fadeIntensity, width, height);
-                    break;
-                case EFFECT_INVERT:
-                    renderInvertEffect(graphics, fadeIntensity, width, height);
-                    break;
+            // Inversion needs its own blend function, so it goes first as a separate pass
+            if (invertIntensity > 0.0f) {
+                renderShaderPass(graphics, invertShader, PASS_INVERT, 0.0f, 0.0f, 0.0f, invertIntensity,
+                        partialTick, width, height);
+            }
+            
+            // Every other layer is composited in a single pass
+            if (overlay) {
+                renderShaderPass(graphics, overlayShader, PASS_OVERLAY, staticIntensity, distortionIntensity,
+                        corruptIntensity, 0.0f, partialTick, width, height);
+            }
+            
+            // Corruption also flashes a few words, which a shader can't do cheaply
+            if (corruptIntensity > 0.0f) {
+                renderCorruptText(graphics, corruptIntensity, width, height);
             }
         } catch (Exception e) {
             LOGGER.error("Error rendering effect: ", e);
-            stopEffect(); // Stop effect if it causes errors
-        }
-        
-        // Auto-stop when done
-        if (effectTimer >= effectDuration) {
-            stopEffect();
+            stopEffect(); // Stop effects if they cause errors
         }
     }
     
-    // Effect rendering implementations
-    private void renderStaticEffect(GuiGraphics graphics, float intensity, int width, int height) {
-        // Render static noise effect on the screen
-        Minecraft minecraft = Minecraft.getInstance();
-        float time = minecraft.level.getGameTime() % 1000000;
-        
-        // Use random noise pattern based on time seed
-        for (int i = 0; i < 1000 * intensity; i++) {
-            int x = (int) (Math.random() * width);
-            int y = (int) (Math.random() * height);
-            int size = 1 + (int) (Math.random() * 3 * intensity);
-            int color = 0xFFFFFFFF;
-            int alpha = (int) (128 * intensity * Math.random());
-            
-            int pixelColor = (alpha << 24) | (color & 0xFFFFFF);
-            
-            // Draw random pixels for static effect
-            graphics.fill(x, y, x + size, y + size, pixelColor);
+    /**
+     * Intensity of a layer at this point of the frame, including fade in and out
+     */
+    private float getLayerIntensity(int effectType, float partialTick) {
+        Layer layer = layers[effectType];
+        if (layer == null) {
+            return 0.0f;
         }
+        
+        float time = layer.age + partialTick;
+        float fade = Math.min(1.0f, Math.min(time / FADE_TICKS, (layer.duration - time) / FADE_TICKS));
+        return layer.intensity * Math.max(0.0f, fade);
     }
     
-    private void renderDistortionEffect(GuiGraphics graphics, float intensity, int width, int height) {
-        // Apply wave/wobble distortion effect
+    /**
+     * Draw one full-screen quad with an effect shader. Cost is one draw call no matter
+     * the resolution or intensity.
+     */
+    private void renderShaderPass(GuiGraphics graphics, ShaderInstance shader, int pass,
+                                  float staticIntensity, float distortionIntensity, float corruptIntensity,
+                                  float invertIntensity, float partialTick, int width, int height) {
+        if (shader == null) {
+            // Resource pack without our shaders, or they failed to compile - already logged by the loader
+            return;
+        }
+        
         Minecraft minecraft = Minecraft.getInstance();
-        float time = minecraft.level.getGameTime() % 1000000;
+        float time = (minecraft.level != null ? minecraft.level.getGameTime() % 1000000 : 0) + partialTick;
         
-        // Enhance distortion with more layers for better visual impact
-        // First layer: horizontal wave pattern
-        for (int i = 0; i < height; i += 3) {
-            float waveAmplitude = 7.0f * intensity;
-            float waveOffset = (float) Math.sin((time / 10.0f) + (i / 20.0f)) * waveAmplitude;
-            
-            int lineColor = 0x22FFFFFF; // Semi-transparent white
-            
-            // Draw horizontal wavy lines
-            graphics.fill((int) waveOffset, i, width + (int) waveOffset, i + 1, lineColor);
-        }
+        shader.safeGetUniform("Pass").set(pass);
+        shader.safeGetUniform("Time").set(time);
+        shader.safeGetUniform("Intensities").set(staticIntensity, distortionIntensity, corruptIntensity, invertIntensity);
+        shader.safeGetUniform("Seed").set(effectSeed);
         
-        // Second layer: vertical distortion (only with higher intensity)
-        if (intensity > 0.4f) {
-            float verticalIntensity = (intensity - 0.4f) * 1.67f; // Scale 0.4-1.0 to 0.0-1.0
-            
-            for (int i = 0; i < width; i += 5) {
-                float waveAmplitude = 6.0f * verticalIntensity;
-                float waveOffset = (float) Math.sin((time / 12.0f) + (i / 25.0f)) * waveAmplitude;
-                
-                int lineColor = 0x18FFFFFF; // More subtle vertical effect
-                
-                // Draw vertical wavy lines
-                graphics.fill(i, (int) waveOffset, i + 1, height + (int) waveOffset, lineColor);
-            }
-        }
+        // Anything the GUI has batched so far has to be drawn underneath us
+        graphics.flush();
         
-        // Third layer: RGB shift effect (for high intensity)
-        if (intensity > 0.7f) {
-            float rgbIntensity = (intensity - 0.7f) * 3.33f; // Scale 0.7-1.0 to 0.0-1.0
-            int rgbShift = (int)(4.0f * rgbIntensity);
-            
-            if (rgbShift > 0) {
-                // Add subtle RGB shift overlay
-                int redOverlay = (int)(50 * rgbIntensity) << 24 | 0x00FF0000;
-                int greenOverlay = (int)(50 * rgbIntensity) << 24 | 0x0000FF00;
-                int blueOverlay = (int)(50 * rgbIntensity) << 24 | 0x000000FF;
-                
-                // Red shifted left
-                graphics.fill(0, 0, width, height, redOverlay);
-                
-                // Green stays centered
-                graphics.fill(rgbShift, 0, width + rgbShift, height, greenOverlay);
-                
-                // Blue shifted right
-                graphics.fill(rgbShift * 2, 0, width + (rgbShift * 2), height, blueOverlay);
-            }
-        }
+        RenderSystem.enableBlend();
+        RenderSystem.disableDepthTest();
+        RenderSystem.setShader(() -> shader);
+        RenderSystem.setShaderTexture(0, NoiseAtlas.LOCATION);
+        
+        Matrix4f pose = graphics.pose().last().pose();
+        BufferBuilder buffer = Tesselator.getInstance().getBuilder();
+        buffer.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+        buffer.vertex(pose, 0, height, 0).uv(0.0f, 1.0f).endVertex();
+        buffer.vertex(pose, width, height, 0).uv(1.0f, 1.0f).endVertex();
+        buffer.vertex(pose, width, 0, 0).uv(1.0f, 0.0f).endVertex();
+        buffer.vertex(pose, 0, 0, 0).uv(0.0f, 0.0f).endVertex();
+        BufferUploader.drawWithShader(buffer.end());
+        
+        // The invert shader leaves its own blend function behind
+        RenderSystem.defaultBlendFunc();
+        RenderSystem.enableDepthTest();
+        RenderSystem.disableBlend();
     }
     
-    private void renderCorruptEffect(GuiGraphics graphics, float intensity, int width, int height) {
-        // Corruption effect - create data corruption appearance
+    private void renderCorruptText(GuiGraphics graphics, float intensity, int width, int height) {
+        // Words are picked once per tick in rollCorruptText, this only draws them
         Minecraft minecraft = Minecraft.getInstance();
-        float time = minecraft.level.getGameTime() % 1000000;
-        
-        // First layer: Block corruption
-        int blockSize = 8;
-        int numBlocks = (int)(50 * intensity);
-        
-        for (int i = 0; i < numBlocks; i++) {
-            // Compute positions based on time for movement
-            int x = (int)((Math.sin(time / 20.0f + i) + 1) * width / 2);
-            int y = (int)((Math.cos(time / 30.0f + i * 2) + 1) * height / 2);
-            
-            // Randomize block appearance
-            int blockW = blockSize + (int)(Math.random() * blockSize * 2);
-            int blockH = blockSize + (int)(Math.random() * blockSize);
-            
-            // Calculate color - mix of black, white and glitch colors
-            int colorChoice = (int)(Math.random() * 5);
-            int blockColor;
-            
-            switch (colorChoice) {
-                case 0:
-                    blockColor = 0xFF000000; // Black
-                    break;
-                case 1:
-                    blockColor = 0xFFFFFFFF; // White
-                    break;
-                case 2:
-                    blockColor = 0xFF0000FF; // Blue
-                    break;
-                case 3:
-                    blockColor = 0xFF00FF00; // Green
-                    break;
-                default:
-                    blockColor = 0xFFFF0000; // Red
-                    break;
-            }
-            
-            // Apply alpha based on intensity
-            blockColor = ((int)(200 * intensity) << 24) | (blockColor & 0x00FFFFFF);
-            
-            // Draw corrupted block
-            graphics.fill(x, y, x + blockW, y + blockH, blockColor);
+        int alpha = (int)(255 * intensity) << 24;
+        for (int i = 0; i < corruptWordCount; i++) {
+            int x = (int)(corruptWordX[i] * width);
+            int y = (int)(corruptWordY[i] * height);
+            graphics.drawString(minecraft.font, CORRUPT_TEXT[corruptWord[i]], x, y, alpha | corruptWordColor[i]);
         }
+    }
+    
+    /**
+     * Pick this tick's corruption words, if any
+     */
+    private void rollCorruptText() {
+        corruptWordCount = 0;
         
-        // Second layer: Scan lines effect (more visible at higher intensities)
-        if (intensity > 0.4f) {
-            int scanLineSpacing = 4;
-            int scanLineColor = ((int)(100 * intensity) << 24) | 0x000000;
-            
-            for (int y = 0; y < height; y += scanLineSpacing) {
-                graphics.fill(0, y, width, y + 1, scanLineColor);
-            }
+        // Text corruption (for high intensity), flashing on and off
+        float intensity = getLayerIntensity(GlitchScreenPacket.EFFECT_CORRUPT, 0.0f);
+        if (intensity <= 0.6f || random.nextFloat() >= 0.3f) {
+            return;
         }
         
-        // Third layer: Text corruption (for high intensity)
-        if (intensity > 0.6f && Math.random() < 0.3) {
-            String[] corruptText = {
-                "ERROR", "CORRUPT", "DELETED", "FAULT", "BREACH",
-                "01101", "NULL", "VOID", "WATCH", "SEE YOU"
-            };
-            
-            int textCount = (int)(5 * intensity);
-            for (int i = 0; i < textCount; i++) {
-                int x = (int)(Math.random() * width);
-                int y = (int)(Math.random() * height);
-                String text = corruptText[(int)(Math.random() * corruptText.length)];
-                
-                // Random color
-                int textColor = (int)(Math.random() * 0xFFFFFF);
-                int alpha = (int)(255 * intensity);
-                int finalColor = (alpha << 24) | textColor;
-                
-                // Draw the text
-                graphics.drawString(minecraft.font, text, x, y, finalColor);
-            }
+        corruptWordCount = Math.min(MAX_CORRUPT_WORDS, (int)(5 * intensity));
+        for (int i = 0; i < corruptWordCount; i++) {
+            corruptWord[i] = random.nextInt(CORRUPT_TEXT.length);
+            corruptWordX[i] = random.nextFloat();
+            corruptWordY[i] = random.nextFloat();
+            corruptWordColor[i] = random.nextInt(0x1000000);
         }
     }
     
-    private void renderInvertEffect(GuiGraphics graphics, float intensity, int width, int height) {
-        // Create a true inversion effect
-        Minecraft minecraft = Minecraft.getInstance();
-        
-        // Apply a full screen color inversion with appropriate transparency
-        int alpha = (int)(255 * intensity); // Full opacity for better inversion
-        
-        // Use a white overlay with specific RenderSystem settings for inversion effect
-        int invertColor = (alpha << 24) | 0xFFFFFF; // White with alpha channel
-        
-        // Set up the blend function for a difference-like effect
-        com.mojang.blaze3d.systems.RenderSystem.enableBlend();
-        com.mojang.blaze3d.systems.RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, intensity);
-        
-        // This blend function helps create an inversion-like effect
-        com.mojang.blaze3d.systems.RenderSystem.blendFunc(
-            com.mojang.blaze3d.platform.GlStateManager.SourceFactor.ONE_MINUS_DST_COLOR,
-            com.mojang.blaze3d.platform.GlStateManager.DestFactor.ONE_MINUS_SRC_COLOR
-        );
-        
-        // Draw full-screen overlay with our special blend function to invert colors
-        graphics.fill(0, 0, width, height, 0xFFFFFFFF);
-        
-        // Restore normal blend mode
-        com.mojang.blaze3d.systems.RenderSystem.defaultBlendFunc();
-        com.mojang.blaze3d.systems.RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
+    /**
+     * A running effect
+     */
+    private static class Layer {
+        private final float intensity;
+        private final int duration;
+        private int age = 0;
         
-        // Add additional visual noise for more disturbing effect if intensity is high
-        if (intensity > 0.5f) {
-            int noiseCount = (int)(200 * (intensity - 0.5f) * 2.0f);
-            
-            for (int i = 0; i < noiseCount; i++) {
-                int x = (int)(Math.random() * width);
-                int y = (int)(Math.random() * height);
-                int size = 1 + (int)(Math.random() * 3);
-                int noiseColor = 0xFF000000; // Black
-                
-                graphics.fill(x, y, x + size, y + size, noiseColor);
-            }
+        private Layer(float intensity, int duration) {
+            this.intensity = intensity;
+            this.duration = duration;
         }
     }
     
@@ -392,7 +389,7 @@ public class ScreenEffectHandler {
             if (++tickCount > displayTime) {
                 // First apply a static effect
                 if (INSTANCE != null) {
-                    INSTANCE.startEffect(EFFECT_STATIC, 1.0f, 40);
+                    INSTANCE.startEffect(GlitchScreenPacket.EFFECT_STATIC, 1.0f, 40);
                 }
                 
                 // Then close after a short delay
@@ -1,33 +1,78 @@
 package net.tasuposed.projectredacted.client.effects;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mojang.blaze3d.platform.NativeImage;
+
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.AbstractTexture;
+import net.minecraft.client.renderer.texture.TextureAtlas;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 /**
- * Handles client-side texture manipulation effects
+ * Handles client-side texture manipulation effects.
+ *
+ * A handful of common block sprites get corrupted and swapped variants, baked off-thread the
+ * first time they're needed. Glitches write those variants over the sprites' spots in the block
+ * atlas - the same way animated textures update - and restore the originals afterwards, so
+ * nothing ever has to be reloaded.
  */
 @OnlyIn(Dist.CLIENT)
 public class TextureManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TextureManager.class);
     public static TextureManager INSTANCE;
-    
+
     // Glitch type constants
     public static final int GLITCH_CORRUPT = 0;
     public static final int GLITCH_SWAP = 1;
     public static final int GLITCH_FLICKER = 2;
-    
+
+    // What is currently in the atlas for our sprites
+    private static final int SHOWING_ORIGINAL = 0;
+    private static final int SHOWING_CORRUPTED = 1;
+    private static final int SHOWING_SWAPPED = 2;
+
+    // Blocks you see everywhere, so a glitch is always noticeable. Non-animated only.
+    private static final String[] GLITCH_SPRITES = {
+        "stone", "dirt", "grass_block_top", "cobblestone", "oak_planks", "oak_log",
+        "sand", "gravel", "deepslate", "andesite", "spruce_planks", "oak_leaves"
+    };
+
     private int currentGlitch = -1;
     private int glitchDuration = 0;
     private int glitchTimer = 0;
-    
+
+    // Baked variants, null until ready. Tied to the atlas they were baked for.
+    private List<SpriteVariant> variants;
+    private CompletableFuture<List<SpriteVariant>> baking;
+    private int showing = SHOWING_ORIGINAL;
+
+    // Only used from the client thread
+    private final Random random = new Random();
+
     private TextureManager() {
-        // Register for rendering events
+        // Register for tick events
         MinecraftForge.EVENT_BUS.register(this);
     }
-    
+
     /**
      * Initialize the texture manager
      */
@@ -36,7 +81,7 @@ public class TextureManager {
             INSTANCE = new TextureManager();
         }
     }
-    
+
     /**
      * Apply a texture glitch effect
      * @param glitchType Type of glitch to apply
@@ -47,72 +92,295 @@ public class TextureManager {
         this.glitchDuration = duration;
         this.glitchTimer = 0;
     }
-    
+
     /**
-     * Stop any active glitch effect
+     * Stop any active glitch effect and put the original sprites back
      */
     public void stopGlitch() {
         this.currentGlitch = -1;
         this.glitchDuration = 0;
         this.glitchTimer = 0;
+        show(SHOWING_ORIGINAL);
     }
-    
+
     /**
-     * Update glitch effects on render
+     * Start baking the glitch variants ahead of the first glitch, so it can start right away
+     */
+    public void prepare() {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.level != null) {
+            ensureVariants(minecraft);
+        }
+    }
+
+    /**
+     * Whether a texture glitch is currently running
+     */
+    public boolean isGlitchActive() {
+        return currentGlitch != -1 && glitchTimer < glitchDuration;
+    }
+
+    /**
+     * Advance the glitch once per tick. The atlas is only written when what's shown changes.
      */
     @SubscribeEvent
-    public void onRenderLevel(RenderLevelStageEvent event) {
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || currentGlitch == -1) {
+            return;
+        }
+
         Minecraft minecraft = Minecraft.getInstance();
-        
-        if (currentGlitch == -1 || glitchTimer >= glitchDuration) {
-            if (glitchTimer >= glitchDuration && currentGlitch != -1) {
-                // Reset any texture modifications when effect ends
-                resetTextures();
-                stopGlitch();
-            }
+        if (minecraft.level == null || minecraft.isPaused()) {
+            return;
+        }
+
+        // The glitch only starts counting once its variants are ready
+        if (!ensureVariants(minecraft)) {
+            return;
+        }
+
+        if (++glitchTimer >= glitchDuration) {
+            // Reset any texture modifications when effect ends
+            stopGlitch();
             return;
         }
-        
-        // Update glitch timer
-        glitchTimer++;
-        
-        // Apply the appropriate glitch based on type
+
         switch (currentGlitch) {
             case GLITCH_CORRUPT:
-                applyCorruptTextures();
+                show(SHOWING_CORRUPTED);
                 break;
             case GLITCH_SWAP:
-                applyTextureSwaps();
+                show(SHOWING_SWAPPED);
                 break;
             case GLITCH_FLICKER:
-                applyTextureFlicker();
+                // Flip between normal and corrupted at an uneven rate
+                if (random.nextInt(3) == 0) {
+                    show(showing == SHOWING_ORIGINAL ? SHOWING_CORRUPTED : SHOWING_ORIGINAL);
+                }
                 break;
         }
     }
-    
+
     /**
-     * Reset any texture modifications
+     * Drop everything when leaving a world
      */
-    private void resetTextures() {
-        // In a full implementation, we'd restore any modified textures
-        // For now, this is just a placeholder
-        Minecraft.getInstance().getEntityRenderDispatcher().onResourceManagerReload(
-                Minecraft.getInstance().getResourceManager());
-    }
-    
-    // Glitch implementation placeholders
-    private void applyCorruptTextures() {
-        // In a full implementation, we'd modify textures to appear corrupted
-        // This would use shader effects or texture manipulation
-    }
-    
-    private void applyTextureSwaps() {
-        // In a full implementation, we'd swap textures between different entities/blocks
-        // This would replace texture references with others at render time
-    }
-    
-    private void applyTextureFlicker() {
-        // In a full implementation, we'd make textures flicker between normal and alternative versions
-        // This would toggle texture references based on time
-    }
-} 
\ No newline at end of file
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        stopGlitch();
+    }
+
+    /**
+     * Make sure variants for the current block atlas are baked, starting a bake if needed
+     * @return Whether they are ready to use
+     */
+    private boolean ensureVariants(Minecraft minecraft) {
+        TextureAtlas atlas = minecraft.getModelManager().getAtlas(TextureAtlas.LOCATION_BLOCKS);
+
+        if (variants != null && isStale(atlas)) {
+            closeVariants();
+        }
+
+        if (variants != null) {
+            return true;
+        }
+
+        if (baking == null) {
+            baking = bakeVariants(atlas, minecraft.getResourceManager());
+            return false;
+        }
+
+        if (!baking.isDone()) {
+            return false;
+        }
+
+        variants = baking.getNow(List.of());
+        baking = null;
+        showing = SHOWING_ORIGINAL;
+        return true;
+    }
+
+    /**
+     * Look the sprites up here on the client thread, then read and corrupt their images in the background
+     */
+    private static CompletableFuture<List<SpriteVariant>> bakeVariants(TextureAtlas atlas, ResourceManager resourceManager) {
+        List<TextureAtlasSprite> sprites = new ArrayList<>(GLITCH_SPRITES.length);
+        for (String name : GLITCH_SPRITES) {
+            TextureAtlasSprite sprite = atlas.getSprite(new ResourceLocation("minecraft", "block/" + name));
+            if (sprite.contents().name().getPath().equals("block/" + name)) {
+                sprites.add(sprite);
+            }
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            List<SpriteVariant> baked = new ArrayList<>(sprites.size());
+            // Fixed seed - the corruption doesn't need to differ between runs
+            Random random = new Random(37L);
+
+            for (TextureAtlasSprite sprite : sprites) {
+                NativeImage original = readSprite(resourceManager, sprite);
+                if (original != null) {
+                    baked.add(new SpriteVariant(sprite, original, corrupt(original, random)));
+                }
+            }
+
+            // Each sprite swaps with the next one of the same size, or falls back to its corruption
+            for (int i = 0; i < baked.size(); i++) {
+                SpriteVariant variant = baked.get(i);
+                SpriteVariant other = baked.get((i + 1) % baked.size());
+                NativeImage source = other != variant && sameSize(other.original, variant.original)
+                        ? other.original : variant.corrupted;
+                variant.swapped = new NativeImage(source.getWidth(), source.getHeight(), false);
+                variant.swapped.copyFrom(source);
+            }
+
+            LOGGER.debug("Baked {} glitch sprite variants in {} ms", baked.size(), (System.nanoTime() - start) / 1_000_000L);
+            return baked;
+        }, Util.backgroundExecutor()).exceptionally(e -> {
+            LOGGER.error("Failed to bake glitch sprites: ", e);
+            return List.of();
+        });
+    }
+
+    /**
+     * Read the sprite's source image, if it matches what's in the atlas
+     */
+    private static NativeImage readSprite(ResourceManager resourceManager, TextureAtlasSprite sprite) {
+        ResourceLocation name = sprite.contents().name();
+        ResourceLocation file = new ResourceLocation(name.getNamespace(), "textures/" + name.getPath() + ".png");
+
+        Optional<Resource> resource = resourceManager.getResource(file);
+        if (resource.isEmpty()) {
+            return null;
+        }
+
+        try (InputStream stream = resource.get().open()) {
+            NativeImage image = NativeImage.read(stream);
+            // Animated or oddly sized textures would need frame handling - just skip them
+            if (image.getWidth() != sprite.contents().width() || image.getHeight() != sprite.contents().height()) {
+                image.close();
+                return null;
+            }
+            return image;
+        } catch (Exception e) {
+            LOGGER.warn("Couldn't read {} for texture glitches: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Make a corrupted copy: shifted rows, channel-swapped blocks and the odd inverted block
+     */
+    private static NativeImage corrupt(NativeImage original, Random random) {
+        int width = original.getWidth();
+        int height = original.getHeight();
+        NativeImage image = new NativeImage(width, height, false);
+
+        for (int y = 0; y < height; y++) {
+            int shift = random.nextInt(4) == 0 ? random.nextInt(width) : 0;
+            for (int x = 0; x < width; x++) {
+                image.setPixelRGBA(x, y, original.getPixelRGBA((x + shift) % width, y));
+            }
+        }
+
+        int block = Math.max(2, width / 4);
+        for (int by = 0; by < height; by += block) {
+            for (int bx = 0; bx < width; bx += block) {
+                int roll = random.nextInt(6);
+                if (roll > 1) {
+                    continue;
+                }
+                for (int y = by; y < Math.min(height, by + block); y++) {
+                    for (int x = bx; x < Math.min(width, bx + block); x++) {
+                        int abgr = image.getPixelRGBA(x, y);
+                        int alpha = abgr & 0xFF000000;
+                        if (roll == 0) {
+                            // Swap red and blue
+                            abgr = alpha | ((abgr & 0xFF) << 16) | (abgr & 0xFF00) | ((abgr >> 16) & 0xFF);
+                        } else {
+                            // Invert
+                            abgr = alpha | (~abgr & 0x00FFFFFF);
+                        }
+                        image.setPixelRGBA(x, y, abgr);
+                    }
+                }
+            }
+        }
+
+        return image;
+    }
+
+    /**
+     * A resource reload restitches the atlas, which also wipes anything we wrote into it
+     */
+    private boolean isStale(TextureAtlas atlas) {
+        return !variants.isEmpty() && atlas.getSprite(variants.get(0).name) != variants.get(0).sprite;
+    }
+
+    private static boolean sameSize(NativeImage a, NativeImage b) {
+        return a.getWidth() == b.getWidth() && a.getHeight() == b.getHeight();
+    }
+
+    /**
+     * Write one set of images into the block atlas. A no-op when that set is already showing.
+     */
+    private void show(int state) {
+        if (state == showing || variants == null || variants.isEmpty()) {
+            return;
+        }
+
+        // Never write into a restitched atlas - the sprites may have moved
+        Minecraft minecraft = Minecraft.getInstance();
+        if (isStale(minecraft.getModelManager().getAtlas(TextureAtlas.LOCATION_BLOCKS))) {
+            closeVariants();
+            return;
+        }
+
+        AbstractTexture atlasTexture = minecraft.getTextureManager().getTexture(TextureAtlas.LOCATION_BLOCKS);
+        atlasTexture.bind();
+
+        for (SpriteVariant variant : variants) {
+            NativeImage image = state == SHOWING_CORRUPTED ? variant.corrupted
+                    : state == SHOWING_SWAPPED ? variant.swapped
+                    : variant.original;
+            // Only the top mip level - distant blocks keep their normal look, which is fine for a flash
+            image.upload(0, variant.sprite.getX(), variant.sprite.getY(), false);
+        }
+
+        showing = state;
+    }
+
+    private void closeVariants() {
+        for (SpriteVariant variant : variants) {
+            variant.close();
+        }
+        variants = null;
+        showing = SHOWING_ORIGINAL;
+    }
+
+    /**
+     * A sprite and the images we can put in its place
+     */
+    private static class SpriteVariant {
+        private final TextureAtlasSprite sprite;
+        private final ResourceLocation name;
+        private final NativeImage original;
+        private final NativeImage corrupted;
+        private NativeImage swapped;
+
+        private SpriteVariant(TextureAtlasSprite sprite, NativeImage original, NativeImage corrupted) {
+            this.sprite = sprite;
+            this.name = sprite.contents().name();
+            this.original = original;
+            this.corrupted = corrupted;
+        }
+
+        private void close() {
+            original.close();
+            corrupted.close();
+            if (swapped != null) {
+                swapped.close();
+            }
+        }
+    }
+}
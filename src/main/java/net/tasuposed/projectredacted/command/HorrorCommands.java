@@ -35,10 +35,12 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.tasuposed.projectredacted.entity.AngryProtocol37;
 import net.tasuposed.projectredacted.entity.DistantStalker;
 import net.tasuposed.projectredacted.entity.EntityRegistry;
+import net.tasuposed.projectredacted.entity.HorrorEntityTracker;
 import net.tasuposed.projectredacted.entity.InvisibleProtocol37;
 import net.tasuposed.projectredacted.entity.Iteration;
 import net.tasuposed.projectredacted.entity.MiningEntity;
 import net.tasuposed.projectredacted.entity.Protocol_37;
+import net.tasuposed.projectredacted.horror.DeadlineQueue;
 import net.tasuposed.projectredacted.horror.HorrorManager;
 import net.tasuposed.projectredacted.horror.HorrorStructureSpawner;
 import net.tasuposed.projectredacted.horror.PlayerHorrorState;
@@ -51,7 +53,10 @@ import net.tasuposed.projectredacted.horror.stage.HorrorStage;
 import net.tasuposed.projectredacted.horror.stage.MetaStage;
 import net.tasuposed.projectredacted.horror.stage.ObviousStage;
 import net.tasuposed.projectredacted.horror.stage.SubtleStage;
+import net.tasuposed.projectredacted.network.ClientBudget;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.NetworkTelemetry;
+import net.tasuposed.projectredacted.network.ParticleBatcher;
 import net.tasuposed.projectredacted.network.packets.FakeCrashPacket;
 import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
 import net.tasuposed.projectredacted.network.packets.InventoryShiftPacket;
@@ -175,7 +180,7 @@ public class HorrorCommands {
             double offsetY = level.getRandom().nextDouble() * 3.0;
             double offsetZ = level.getRandom().nextDouble() * 4.0 - 2.0;
             
-            level.sendParticles(
+            ParticleBatcher.queue(level,
                 net.minecraft.core.particles.ParticleTypes.PORTAL,
                 pos.getX() + 0.5 + offsetX,
                 pos.getY() + 1.5 + offsetY,
@@ -235,6 +240,18 @@ public class HorrorCommands {
                     checkRecentEvents(context.getSource());
                     return 1;
                 })
+            )
+            .then(Commands.literal("entities")
+                .executes(context -> {
+                    showTrackedEntities(context.getSource());
+                    return 1;
+                })
+            )
+            .then(Commands.literal("net")
+                .executes(context -> {
+                    showNetworkTelemetry(context.getSource());
+                    return 1;
+                })
             );
         
         // Register the debug command
@@ -417,6 +434,43 @@ public class HorrorCommands {
         return 1;
     }
     
+    /**
+     * Show the horror entities currently tracked by HorrorEntityTracker
+     */
+    private static int showTrackedEntities(CommandSourceStack source) {
+        int total = HorrorEntityTracker.getTrackedCount();
+        source.sendSuccess(() -> Component.literal("§dTracked horror entities: §5" + total
+                + " §d(pending deadlines: §5" + DeadlineQueue.size() + "§d)"), false);
+        
+        HorrorEntityTracker.getCountsByType().forEach((type, count) ->
+                source.sendSuccess(() -> Component.literal("§5- §r" + type.getDescription().getString() + ": " + count), false));
+        
+        // Entities currently hunting the player running the command
+        if (source.getEntity() instanceof ServerPlayer player) {
+            int targeting = HorrorEntityTracker.getEntitiesTargeting(player.getUUID()).size();
+            source.sendSuccess(() -> Component.literal("§dTargeting you: §5" + targeting), false);
+        }
+        
+        return 1;
+    }
+    
+    /**
+     * Show the network counters collected by NetworkTelemetry
+     */
+    private static int showNetworkTelemetry(CommandSourceStack source) {
+        source.sendSuccess(() -> Component.literal("§dNetwork telemetry:"), false);
+        
+        for (String line : NetworkTelemetry.buildReport(source.getServer())) {
+            source.sendSuccess(() -> Component.literal("§5- §r" + line.trim()), false);
+        }
+        
+        for (String line : ClientBudget.buildReport(source.getServer())) {
+            source.sendSuccess(() -> Component.literal("§5- §r" + line.trim()), false);
+        }
+        
+        return 1;
+    }
+    
     /**
      * Notify server operators of horror events
      */
@@ -1113,7 +1167,7 @@ public class HorrorCommands {
             // Apply a disturbing effect to reinforce the message
             NetworkHandler.sendToPlayer(
                     new GlitchScreenPacket(
-                            2, // EFFECT_CORRUPT
+                            GlitchScreenPacket.EFFECT_CORRUPT,
                             0.9f,
                             40), // 2 seconds
                     player);
@@ -28,7 +28,7 @@ import net.tasuposed.projectredacted.config.HorrorConfig;
  * "Protocol 37's angry form" - an aggressive version of Protocol 37 that chases 
  * and attacks the player. Credit for the idea goes to a mod user.
  */
-public class AngryProtocol37 extends Monster {
+public class AngryProtocol37 extends HorrorMonster {
     private static final Logger LOGGER = LoggerFactory.getLogger(AngryProtocol37.class);
     
     // Behavior configuration
@@ -42,8 +42,8 @@ public class AngryProtocol37 extends Monster {
     // Target player
     private Player targetPlayer = null;
     
-    // Lifespan management
-    private int lifespan = 1200; // 1 minute maximum before giving up
+    // Path searches are rate-limited across all horror entities
+    private final ThrottledPathfinder pathfinder = new ThrottledPathfinder(this);
     
     public AngryProtocol37(EntityType<? extends Monster> entityType, Level level) {
         super(entityType, level);
@@ -86,17 +86,15 @@ public class AngryProtocol37 extends Monster {
             if (targetPlayer == null) {
                 targetPlayer = this.level().getNearestPlayer(this, 64.0D);
                 if (targetPlayer != null) {
-                    // Set immediate path to player
-                    this.getNavigation().moveTo(targetPlayer, 1.0D);
+                    // Start computing a path to the player right away
+                    pathfinder.requestPath(targetPlayer, 1.0D);
                 }
             }
             
-            // Lifespan management
-            lifespan--;
-            if (lifespan <= 0) {
-                LOGGER.debug("AngryProtocol37 despawning due to timeout");
-                this.discard();
-            }
+            // Compute the waiting path once the shared budget allows
+            pathfinder.tick();
+            
+            // Lifespan is enforced by HorrorEntityTracker
         }
     }
     
@@ -194,7 +192,7 @@ public class AngryProtocol37 extends Monster {
         public void start() {
             if (target != null) {
                 // Start chasing
-                entity.getNavigation().moveTo(target, 1.0D);
+                entity.pathfinder.requestPath(target, 1.0D);
                 entity.targetPlayer = target;
             }
         }
@@ -203,10 +201,11 @@ public class AngryProtocol37 extends Monster {
         public void tick() {
             if (target != null) {
                 // Update path to player periodically
-                if (pathUpdateCooldown <= 0) {
-                    entity.getNavigation().moveTo(target, 1.0D);
-                    pathUpdateCooldown = 10;
-                } else {
+                if (pathUpdateCooldown <= 0 && !entity.pathfinder.isPending()) {
+                    if (entity.pathfinder.requestPath(target, 1.0D)) {
+                        pathUpdateCooldown = 10;
+                    }
+                } else if (pathUpdateCooldown > 0) {
                     pathUpdateCooldown--;
                 }
                 
@@ -234,6 +233,7 @@ public class AngryProtocol37 extends Monster {
         
         @Override
         public void stop() {
+            entity.pathfinder.cancel();
             entity.getNavigation().stop();
             entity.targetPlayer = null;
             target = null;
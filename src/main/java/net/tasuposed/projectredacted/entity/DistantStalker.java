@@ -30,7 +30,7 @@ import net.tasuposed.projectredacted.config.HorrorConfig;
  * either runs away and disappears or just disappears when they get too close.
  * Credit for the idea goes to a mod user.
  */
-public class DistantStalker extends Monster {
+public class DistantStalker extends HorrorMonster {
     private static final Logger LOGGER = LoggerFactory.getLogger(DistantStalker.class);
     
     // Following behavior
@@ -323,8 +323,8 @@ public class DistantStalker extends Monster {
         if (spawnType == MobSpawnType.NATURAL) {
             // Check entity cap in area
             if (level instanceof ServerLevel serverLevel) {
-                int countInArea = serverLevel.getEntitiesOfClass(DistantStalker.class, 
-                    net.minecraft.world.phys.AABB.ofSize(new Vec3(pos.getX(), pos.getY(), pos.getZ()), 128, 128, 128)).size();
+                int countInArea = HorrorEntityTracker.countNear(serverLevel, EntityRegistry.DISTANT_STALKER.get(), 
+                    Vec3.atCenterOf(pos), 64.0D);
                     
                 if (countInArea >= MAX_ENTITIES_PER_AREA) {
                     return false;
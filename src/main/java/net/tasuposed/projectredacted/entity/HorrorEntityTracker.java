@@ -0,0 +1,477 @@
+package net.tasuposed.projectredacted.entity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.entity.living.LivingChangeTargetEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.RegistryObject;
+import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.horror.DeadlineQueue;
+
+/**
+ * Central server-side registry of every live horror entity.
+ * Entities are indexed by type, chunk and target player so callers can ask
+ * "is anything near X" or "what is hunting this player" without scanning the world.
+ * Each chunk also keeps a bitmask of the horror types in it, so proximity checks
+ * skip chunks without a matching entity before looking at any entities.
+ * Fixed lifetimes are enforced through the shared DeadlineQueue.
+ */
+@Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
+public class HorrorEntityTracker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HorrorEntityTracker.class);
+
+    private static final Map<Entity, Tracked> tracked = new HashMap<>();
+    private static final Map<ResourceKey<Level>, LevelIndex> levels = new HashMap<>();
+    private static final Map<UUID, Set<Entity>> byTarget = new HashMap<>();
+
+    // Expiries set before the entity joined its level, handed over to its entry when it does
+    private static final Map<Entity, DeadlineQueue.Deadline> earlyExpiry = new HashMap<>();
+
+    // Entity tag marking a horror entity as ephemeral - never written to region files
+    private static final String EPHEMERAL_TAG = "projectredacted_ephemeral";
+
+    // Each horror type's bit in the per-chunk presence masks
+    private static Map<EntityType<?>, Integer> horrorTypeBits = null;
+
+    /**
+     * Check whether an entity type belongs to this mod
+     */
+    public static boolean isHorrorEntityType(EntityType<?> type) {
+        return getTypeBits().containsKey(type);
+    }
+
+    private static Map<EntityType<?>, Integer> getTypeBits() {
+        if (horrorTypeBits == null) {
+            // Registry objects can only be resolved after registration, so build this lazily
+            Map<EntityType<?>, Integer> bits = new HashMap<>();
+            for (RegistryObject<EntityType<?>> entry : EntityRegistry.ENTITIES.getEntries()) {
+                // Far fewer than 32 types, but share the top bit rather than overflow if that changes
+                bits.put(entry.get(), 1 << Math.min(bits.size(), 31));
+            }
+            horrorTypeBits = bits;
+        }
+        return horrorTypeBits;
+    }
+
+    /**
+     * Presence mask for a set of types, or every bit when no types are given
+     */
+    private static int getTypeMask(EntityType<?>... types) {
+        if (types.length == 0) {
+            return ~0;
+        }
+        int mask = 0;
+        for (EntityType<?> type : types) {
+            mask |= getTypeBits().getOrDefault(type, 0);
+        }
+        return mask;
+    }
+
+    /**
+     * Fixed maximum lifetime for entity types that always give up after a set time
+     * @return Lifetime in ticks, or 0 for no fixed lifetime
+     */
+    private static int getFixedLifetime(EntityType<?> type) {
+        if (type == EntityRegistry.ANGRY_PROTOCOL_37.get()) {
+            return 1200; // 1 minute maximum before giving up
+        }
+        if (type == EntityRegistry.INVISIBLE_PROTOCOL_37.get()) {
+            return 3600; // 3 minutes maximum lifespan
+        }
+        return 0;
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        Entity entity = event.getEntity();
+        if (event.getLevel().isClientSide() || !isHorrorEntityType(entity.getType())) {
+            return;
+        }
+
+        track(entity);
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
+            return;
+        }
+
+        Entity entity = event.getEntity();
+        if (entity.getRemovalReason() == Entity.RemovalReason.UNLOADED_TO_CHUNK && isEphemeral(entity)) {
+            // Nothing was saved for it, so unloading the chunk is the end of this entity
+            LOGGER.debug("Ephemeral {} dropped with its chunk", entity.getType().getDescriptionId());
+        }
+
+        untrack(entity);
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (!event.didChunkChange()) {
+            return;
+        }
+
+        Tracked entry = tracked.get(event.getEntity());
+        if (entry == null) {
+            return;
+        }
+
+        LevelIndex index = levels.get(entry.dimension);
+        SectionPos newPos = event.getNewPos();
+        long newChunk = ChunkPos.asLong(newPos.x(), newPos.z());
+        if (index != null && newChunk != entry.chunk) {
+            index.removeFromChunk(entry.chunk, entry.entity);
+            index.addToChunk(newChunk, entry.entity);
+            entry.chunk = newChunk;
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onChangeTarget(LivingChangeTargetEvent event) {
+        Tracked entry = tracked.get(event.getEntity());
+        if (entry == null) {
+            return;
+        }
+
+        LivingEntity newTarget = event.getNewTarget();
+        setTarget(entry, newTarget instanceof Player player ? player.getUUID() : null);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        tracked.clear();
+        levels.clear();
+        byTarget.clear();
+        earlyExpiry.clear();
+    }
+
+    /**
+     * Record that a horror entity is going after a specific player, for entities
+     * that don't go through Mob.setTarget
+     */
+    public static void assignTarget(Entity entity, Player player) {
+        Tracked entry = tracked.get(entity);
+        if (entry != null) {
+            setTarget(entry, player != null ? player.getUUID() : null);
+        }
+    }
+
+    /**
+     * Mark an entity as ephemeral. Ephemeral entities skip serialization entirely, so they
+     * disappear when their chunk unloads or the server stops instead of being reloaded later.
+     * Can be called before the entity is added to the level.
+     */
+    public static void markEphemeral(Entity entity) {
+        entity.addTag(EPHEMERAL_TAG);
+    }
+
+    /**
+     * Check whether an entity should be kept out of region files.
+     * Types with a fixed lifetime are always ephemeral since their deadline can't survive a reload.
+     */
+    public static boolean isEphemeral(Entity entity) {
+        return entity.getTags().contains(EPHEMERAL_TAG) || getFixedLifetime(entity.getType()) > 0;
+    }
+
+    /**
+     * Discard an entity after the given number of ticks, unless it's removed first.
+     * A later call replaces the earlier expiry.
+     * @return Handle that can be used to cancel the expiry
+     */
+    public static DeadlineQueue.Deadline expireAfter(Entity entity, int ticks) {
+        Tracked entry = tracked.get(entity);
+        if (entry == null) {
+            // Not tracked (yet) - still make sure it goes away, and keep the handle so
+            // tracking it later, leaving the level or another call can cancel it
+            DeadlineQueue.Deadline previous = earlyExpiry.get(entity);
+            if (previous != null) {
+                previous.cancel();
+            }
+
+            DeadlineQueue.Deadline deadline = DeadlineQueue.schedule(ticks, () -> {
+                earlyExpiry.remove(entity);
+                entity.discard();
+            });
+            earlyExpiry.put(entity, deadline);
+            return deadline;
+        }
+
+        if (entry.expiry != null) {
+            entry.expiry.cancel();
+        }
+        entry.expiry = DeadlineQueue.schedule(ticks, entity::discard);
+        return entry.expiry;
+    }
+
+    /**
+     * Check if any horror entity of the given types is within radius of a position.
+     * Pass no types to match any horror entity.
+     */
+    public static boolean isAnyNear(Level level, Vec3 pos, double radius, EntityType<?>... types) {
+        LevelIndex index = levels.get(level.dimension());
+        int mask = getTypeMask(types);
+        if (index == null || mask == 0) {
+            return false;
+        }
+
+        double radiusSqr = radius * radius;
+        int minChunkX = ((int) Math.floor(pos.x - radius)) >> 4;
+        int maxChunkX = ((int) Math.floor(pos.x + radius)) >> 4;
+        int minChunkZ = ((int) Math.floor(pos.z - radius)) >> 4;
+        int maxChunkZ = ((int) Math.floor(pos.z + radius)) >> 4;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                // Nothing of these types in this chunk - most chunks stop here
+                if ((index.presence.get(chunk) & mask) == 0) {
+                    continue;
+                }
+
+                Set<Entity> entities = index.byChunk.get(chunk);
+                for (Entity entity : entities) {
+                    if (matchesType(entity, types) && entity.distanceToSqr(pos) <= radiusSqr) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Count horror entities of one type within radius of a position
+     */
+    public static int countNear(Level level, EntityType<?> type, Vec3 pos, double radius) {
+        LevelIndex index = levels.get(level.dimension());
+        if (index == null) {
+            return 0;
+        }
+
+        Set<Entity> ofType = index.byType.get(type);
+        if (ofType == null) {
+            return 0;
+        }
+
+        // Usually only a handful of each type exist, so walking the type set is cheapest
+        double radiusSqr = radius * radius;
+        int count = 0;
+        for (Entity entity : ofType) {
+            if (entity.distanceToSqr(pos) <= radiusSqr) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get all live horror entities of a type in a level
+     */
+    public static Collection<Entity> getEntitiesOfType(Level level, EntityType<?> type) {
+        LevelIndex index = levels.get(level.dimension());
+        if (index == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Entity> entities = index.byType.get(type);
+        return entities != null ? Collections.unmodifiableSet(entities) : Collections.emptySet();
+    }
+
+    /**
+     * Get all horror entities currently going after a player
+     */
+    public static Collection<Entity> getEntitiesTargeting(UUID playerId) {
+        Set<Entity> entities = byTarget.get(playerId);
+        return entities != null ? Collections.unmodifiableSet(entities) : Collections.emptySet();
+    }
+
+    /**
+     * Get the total number of tracked horror entities
+     */
+    public static int getTrackedCount() {
+        return tracked.size();
+    }
+
+    /**
+     * Count tracked entities per type across all levels, for debug output
+     */
+    public static Map<EntityType<?>, Integer> getCountsByType() {
+        Map<EntityType<?>, Integer> counts = new HashMap<>();
+        for (LevelIndex index : levels.values()) {
+            for (Map.Entry<EntityType<?>, Set<Entity>> entry : index.byType.entrySet()) {
+                counts.merge(entry.getKey(), entry.getValue().size(), Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static boolean matchesType(Entity entity, EntityType<?>[] types) {
+        if (types.length == 0) {
+            return true;
+        }
+        for (EntityType<?> type : types) {
+            if (entity.getType() == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void track(Entity entity) {
+        if (tracked.containsKey(entity)) {
+            return;
+        }
+
+        ResourceKey<Level> dimension = entity.level().dimension();
+        long chunk = ChunkPos.asLong(entity.getBlockX() >> 4, entity.getBlockZ() >> 4);
+        Tracked entry = new Tracked(entity, dimension, chunk);
+        tracked.put(entity, entry);
+
+        LevelIndex index = levels.computeIfAbsent(dimension, key -> new LevelIndex());
+        index.byType.computeIfAbsent(entity.getType(), key -> new HashSet<>()).add(entity);
+        index.addToChunk(chunk, entity);
+
+        // Types with a fixed lifetime expire through the shared deadline queue,
+        // unless an expiry set before joining comes sooner
+        DeadlineQueue.Deadline early = earlyExpiry.remove(entity);
+        int lifetime = getFixedLifetime(entity.getType());
+        if (early != null && (lifetime <= 0 || early.getTick() <= DeadlineQueue.getCurrentTick() + lifetime)) {
+            entry.expiry = early;
+        } else if (lifetime > 0) {
+            if (early != null) {
+                early.cancel();
+            }
+            entry.expiry = DeadlineQueue.schedule(lifetime, () -> {
+                LOGGER.debug("{} despawning due to timeout", entity.getType().getDescriptionId());
+                entity.discard();
+            });
+        }
+    }
+
+    private static void untrack(Entity entity) {
+        Tracked entry = tracked.remove(entity);
+        if (entry == null) {
+            return;
+        }
+
+        if (entry.expiry != null) {
+            entry.expiry.cancel();
+        }
+
+        LevelIndex index = levels.get(entry.dimension);
+        if (index != null) {
+            Set<Entity> ofType = index.byType.get(entity.getType());
+            if (ofType != null) {
+                ofType.remove(entity);
+                if (ofType.isEmpty()) {
+                    index.byType.remove(entity.getType());
+                }
+            }
+            index.removeFromChunk(entry.chunk, entity);
+        }
+
+        setTarget(entry, null);
+    }
+
+    private static void setTarget(Tracked entry, UUID target) {
+        if (entry.target != null) {
+            Set<Entity> hunting = byTarget.get(entry.target);
+            if (hunting != null) {
+                hunting.remove(entry.entity);
+                if (hunting.isEmpty()) {
+                    byTarget.remove(entry.target);
+                }
+            }
+        }
+
+        entry.target = target;
+        if (target != null) {
+            byTarget.computeIfAbsent(target, key -> new HashSet<>()).add(entry.entity);
+        }
+    }
+
+    /**
+     * Bookkeeping for a single tracked entity
+     */
+    private static class Tracked {
+        private final Entity entity;
+        private final ResourceKey<Level> dimension;
+        private long chunk;
+        private UUID target = null;
+        private DeadlineQueue.Deadline expiry = null;
+
+        private Tracked(Entity entity, ResourceKey<Level> dimension, long chunk) {
+            this.entity = entity;
+            this.dimension = dimension;
+            this.chunk = chunk;
+        }
+    }
+
+    /**
+     * Per-level indices
+     */
+    private static class LevelIndex {
+        private final Map<EntityType<?>, Set<Entity>> byType = new HashMap<>();
+        private final Long2ObjectMap<Set<Entity>> byChunk = new Long2ObjectOpenHashMap<>();
+        // Type bits of the entities in each chunk, 0 for chunks with none
+        private final Long2IntMap presence = new Long2IntOpenHashMap();
+
+        private void addToChunk(long chunk, Entity entity) {
+            Set<Entity> entities = byChunk.get(chunk);
+            if (entities == null) {
+                entities = new HashSet<>();
+                byChunk.put(chunk, entities);
+            }
+            entities.add(entity);
+            presence.put(chunk, presence.get(chunk) | getTypeBits().getOrDefault(entity.getType(), 0));
+        }
+
+        private void removeFromChunk(long chunk, Entity entity) {
+            Set<Entity> entities = byChunk.get(chunk);
+            if (entities != null) {
+                entities.remove(entity);
+                if (entities.isEmpty()) {
+                    byChunk.remove(chunk);
+                    presence.remove(chunk);
+                } else {
+                    // Only a few entities per chunk, so just rebuild the mask from what's left
+                    int mask = 0;
+                    for (Entity remaining : entities) {
+                        mask |= getTypeBits().getOrDefault(remaining.getType(), 0);
+                    }
+                    presence.put(chunk, mask);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package net.tasuposed.projectredacted.entity;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.level.Level;
+
+/**
+ * Base class for the mod's horror entities.
+ * Keeps ephemeral spawns out of region files - see HorrorEntityTracker.isEphemeral.
+ */
+public abstract class HorrorMonster extends Monster {
+    protected HorrorMonster(EntityType<? extends Monster> entityType, Level level) {
+        super(entityType, level);
+    }
+
+    @Override
+    public boolean shouldBeSaved() {
+        // Ephemeral spawns are never written to region files
+        return !HorrorEntityTracker.isEphemeral(this) && super.shouldBeSaved();
+    }
+
+    @Override
+    public boolean saveAsPassenger(CompoundTag compound) {
+        return !HorrorEntityTracker.isEphemeral(this) && super.saveAsPassenger(compound);
+    }
+}
@@ -29,7 +29,7 @@ import net.tasuposed.projectredacted.config.HorrorConfig;
  * Protocol 37's invisible form - an invisible entity that follows the player around
  * and sometimes teleports around them. Credit for the idea goes to a mod user.
  */
-public class InvisibleProtocol37 extends Monster {
+public class InvisibleProtocol37 extends HorrorMonster {
     private static final Logger LOGGER = LoggerFactory.getLogger(InvisibleProtocol37.class);
     
     // Teleportation behavior
@@ -51,9 +51,6 @@ public class InvisibleProtocol37 extends Monster {
     private static final int DISAPPEAR_CHANCE = 5; // 1 in 5 chance to deal damage and disappear
     private static final int TRANSFORM_CHANCE = 20; // 1 in 20 chance to transform before disappearing
     
-    // Lifetime management
-    private int lifespan = 3600; // 3 minutes maximum lifespan
-    
     // Player caching optimization
     private Player cachedPlayer = null;
     private int playerCacheTimer = 0;
@@ -99,12 +96,8 @@ public class InvisibleProtocol37 extends Monster {
         }
         
         // Only run logic if players are close enough to care
+        // Lifespan is enforced by HorrorEntityTracker, even when players aren't nearby
         if (!this.level().hasNearbyAlivePlayer(this.getX(), this.getY(), this.getZ(), 64.0D)) {
-            // Still decrement lifespan even when players aren't nearby
-            lifespan--;
-            if (lifespan <= 0) {
-                this.discard();
-            }
             return;
         }
         
@@ -167,12 +160,6 @@ public class InvisibleProtocol37 extends Monster {
                     handleDisappearance(nearestPlayer);
                 }
             }
-            
-            // Lifespan management
-            lifespan--;
-            if (lifespan <= 0) {
-                this.discard();
-            }
         }
     }
     
@@ -317,8 +304,8 @@ public class InvisibleProtocol37 extends Monster {
         if (spawnType == MobSpawnType.NATURAL) {
             // Check entity cap in area
             if (level instanceof ServerLevel serverLevel) {
-                int countInArea = serverLevel.getEntitiesOfClass(InvisibleProtocol37.class, 
-                    net.minecraft.world.phys.AABB.ofSize(new Vec3(pos.getX(), pos.getY(), pos.getZ()), 128, 128, 128)).size();
+                int countInArea = HorrorEntityTracker.countNear(serverLevel, EntityRegistry.INVISIBLE_PROTOCOL_37.get(), 
+                    Vec3.atCenterOf(pos), 64.0D);
                     
                 if (countInArea >= MAX_ENTITIES_PER_AREA) {
                     return false;
@@ -6,6 +6,9 @@ import org.slf4j.LoggerFactory;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.syncher.EntityDataAccessor;
+import net.minecraft.network.syncher.EntityDataSerializers;
+import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerBossEvent;
 import net.minecraft.server.level.ServerLevel;
@@ -24,8 +27,6 @@ import net.minecraft.world.entity.MobSpawnType;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
-import net.minecraft.world.entity.ai.goal.MeleeAttackGoal;
-import net.minecraft.world.entity.ai.goal.MoveTowardsTargetGoal;
 import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
 import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
 import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
@@ -42,6 +43,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 import net.tasuposed.projectredacted.horror.events.EntityEvent;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.ParticleBatcher;
 import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
 import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.core.Registry;
@@ -51,7 +53,7 @@ import net.minecraft.resources.ResourceLocation;
 /**
  * A mysterious entity that stalks players
  */
-public class Iteration extends Monster {
+public class Iteration extends HorrorMonster {
     private static final Logger LOGGER = LoggerFactory.getLogger(Iteration.class);
     
     private final ServerBossEvent bossEvent = new ServerBossEvent(
@@ -72,16 +74,26 @@ public class Iteration extends Monster {
     private boolean hasTargetedPlayer = false; // Track if we've ever targeted a player
     private int killAttemptTimer = 1800; // 1.5 minutes to kill the player after targeting (was 1200)
     
+    // Synced ambience level for the client-side particle emitter (0=none, otherwise stalking phase + 1)
+    private static final EntityDataAccessor<Byte> DATA_AMBIENCE = 
+            SynchedEntityData.defineId(Iteration.class, EntityDataSerializers.BYTE);
+    private static final byte AMBIENCE_NONE = 0;
+    
     public Iteration(EntityType<? extends Monster> entityType, Level level) {
         super(entityType, level);
         this.xpReward = 100; // Increased reward for killing it
         this.bossEvent.setVisible(false); // Initially hidden
     }
     
+    @Override
+    protected void defineSynchedData() {
+        super.defineSynchedData();
+        this.entityData.define(DATA_AMBIENCE, AMBIENCE_NONE);
+    }
+    
     @Override
     protected void registerGoals() {
-        this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 1.2D, true)); // Faster attack speed
-        this.goalSelector.addGoal(2, new MoveTowardsTargetGoal(this, 1.0D, 32.0F)); // Move faster toward target
+        this.goalSelector.addGoal(1, new ThrottledChaseGoal(this, 1.2D, true)); // Chase and attack - paths rate-limited
         this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 1.0D)); // Iteration avoids water - digital entity disrupted by water
         this.goalSelector.addGoal(4, new LookAtPlayerGoal(this, Player.class, 12.0F)); // Look from further away
         this.goalSelector.addGoal(5, new RandomLookAroundGoal(this));
@@ -106,52 +118,20 @@ public class Iteration extends Monster {
      */
     private void createAmbientEffects() {
         if (this.level().isClientSide()) {
-            return; // Server-side only
-        }
-
-        // Only do particle effects every few ticks for performance
-        if (this.tickCount % 5 != 0) {
+            // Particles are emitted locally based on the synced ambience level
+            emitAmbientParticles();
             return;
         }
 
-        // Particles get more intense as the stalking phase increases
-        int particleCount = 1 + stalkingPhase * 2;
-        
-        for (int i = 0; i < particleCount; i++) {
-            // Random offset within entity bounds
-            double offsetX = (random.nextDouble() - 0.5) * this.getBbWidth();
-            double offsetY = random.nextDouble() * this.getBbHeight();
-            double offsetZ = (random.nextDouble() - 0.5) * this.getBbWidth();
-            
-            // Random velocity
-            double velX = (random.nextDouble() - 0.5) * 0.1;
-            double velY = random.nextDouble() * 0.1;
-            double velZ = (random.nextDouble() - 0.5) * 0.1;
+        // Keep the client-side emitter in sync with the stalking phase
+        byte ambience = (byte) (stalkingPhase + 1);
+        if (this.entityData.get(DATA_AMBIENCE) != ambience) {
+            this.entityData.set(DATA_AMBIENCE, ambience);
+        }
 
-            // Create appropriate particles based on phase
-            if (stalkingPhase == 2) {
-                // Hunting phase: Dark smoke or flame particles
-                ((ServerLevel)level()).sendParticles(
-                    ParticleTypes.SMOKE,
-                    this.getX() + offsetX, 
-                    this.getY() + offsetY, 
-                    this.getZ() + offsetZ,
-                    1, // Single particle per call for better control
-                    velX, velY, velZ,
-                    0.01 // Speed factor
-                );
-            } else {
-                // Earlier phases: Subtle effect
-                ((ServerLevel)level()).sendParticles(
-                    ParticleTypes.ASH,
-                    this.getX() + offsetX, 
-                    this.getY() + offsetY, 
-                    this.getZ() + offsetZ,
-                    1,
-                    velX, velY, velZ,
-                    0.01
-                );
-            }
+        // Only do sound effects every few ticks for performance
+        if (this.tickCount % 5 != 0) {
+            return;
         }
         
         // Random ambient sounds
@@ -177,6 +157,41 @@ public class Iteration extends Monster {
         }
     }
     
+    /**
+     * Client-side procedural particle emitter driven by the synced ambience level
+     */
+    private void emitAmbientParticles() {
+        int ambience = this.entityData.get(DATA_AMBIENCE);
+        if (ambience == AMBIENCE_NONE || this.tickCount % 5 != 0) {
+            return;
+        }
+
+        // Particles get more intense as the stalking phase increases
+        int phase = ambience - 1;
+        int particleCount = 1 + phase * 2;
+        
+        for (int i = 0; i < particleCount; i++) {
+            // Random offset within entity bounds
+            double offsetX = (random.nextDouble() - 0.5) * this.getBbWidth();
+            double offsetY = random.nextDouble() * this.getBbHeight();
+            double offsetZ = (random.nextDouble() - 0.5) * this.getBbWidth();
+            
+            // Slow random drift, same speed factor the server used to send
+            double velX = random.nextGaussian() * 0.01;
+            double velY = random.nextGaussian() * 0.01;
+            double velZ = random.nextGaussian() * 0.01;
+
+            // Hunting phase: dark smoke, earlier phases: subtle ash
+            this.level().addParticle(
+                phase == 2 ? ParticleTypes.SMOKE : ParticleTypes.ASH,
+                this.getX() + offsetX, 
+                this.getY() + offsetY, 
+                this.getZ() + offsetZ,
+                velX, velY, velZ
+            );
+        }
+    }
+    
     @Override
     public void tick() {
         super.tick();
@@ -209,13 +224,13 @@ public class Iteration extends Monster {
             if (killAttemptTimer <= 0) {
                 LOGGER.debug("Iteration despawning due to failed kill attempt");
                 
-                // Create dramatic particle explosion before despawning
+                // Create dramatic particle explosion before despawning (sent as one batch)
                 for (int i = 0; i < 50; i++) {
                     double offsetX = (random.nextDouble() - 0.5) * 2;
                     double offsetY = random.nextDouble() * 2;
                     double offsetZ = (random.nextDouble() - 0.5) * 2;
                     
-                    ((ServerLevel)level()).sendParticles(
+                    ParticleBatcher.queue((ServerLevel)level(),
                         ParticleTypes.REVERSE_PORTAL,
                         this.getX(), this.getY() + 1.0, this.getZ(),
                         5, offsetX, offsetY, offsetZ, 0.1
@@ -321,7 +336,7 @@ public class Iteration extends Monster {
                 // Major screen effect
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.95f, // Maximum intensity
                                 60), // 3 seconds
                         player);
@@ -338,7 +353,7 @@ public class Iteration extends Monster {
                 // Add screen effect
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                1, // EFFECT_DISTORT
+                                GlitchScreenPacket.EFFECT_DISTORTION,
                                 0.7f, // Medium intensity
                                 40), // 2 seconds
                         player);
@@ -384,19 +399,19 @@ public class Iteration extends Monster {
         switch(stalkingPhase) {
             case 0:
                 // Subtle effect in normal phase
-                effectType = 0; // EFFECT_STATIC
+                effectType = GlitchScreenPacket.EFFECT_STATIC;
                 intensity = 0.3f + random.nextFloat() * 0.2f; // 0.3-0.5
                 duration = 20 + random.nextInt(20); // 1-2 seconds
                 break;
             case 1:
                 // Stronger effect in aggressive phase
-                effectType = 1; // EFFECT_DISTORT
+                effectType = GlitchScreenPacket.EFFECT_DISTORTION;
                 intensity = 0.5f + random.nextFloat() * 0.3f; // 0.5-0.8
                 duration = 30 + random.nextInt(30); // 1.5-3 seconds
                 break;
             case 2:
                 // Severe effect in hunting phase
-                effectType = 2; // EFFECT_CORRUPT
+                effectType = GlitchScreenPacket.EFFECT_CORRUPT;
                 intensity = 0.7f + random.nextFloat() * 0.3f; // 0.7-1.0
                 duration = 40 + random.nextInt(40); // 2-4 seconds
                 break;
@@ -441,7 +456,7 @@ public class Iteration extends Monster {
                         // Add subtle screen effect
                         NetworkHandler.sendToPlayer(
                                 new GlitchScreenPacket(
-                                        0, // EFFECT_STATIC
+                                        GlitchScreenPacket.EFFECT_STATIC,
                                         0.6f,
                                         15), // Short flash
                                 player);
@@ -480,7 +495,7 @@ public class Iteration extends Monster {
                             // Add severe screen effect
                             NetworkHandler.sendToPlayer(
                                     new GlitchScreenPacket(
-                                            2, // EFFECT_CORRUPT
+                                            GlitchScreenPacket.EFFECT_CORRUPT,
                                             0.8f,
                                             20), // 1 second
                                     player);
@@ -503,7 +518,7 @@ public class Iteration extends Monster {
         // Severe screen effect
         NetworkHandler.sendToPlayer(
                 new GlitchScreenPacket(
-                        3, // EFFECT_INVERT
+                        GlitchScreenPacket.EFFECT_INVERT,
                         1.0f, // Maximum intensity
                         50), // 2.5 seconds
                 player);
@@ -664,7 +679,7 @@ public class Iteration extends Monster {
                     // Light screen distortion
                     NetworkHandler.sendToPlayer(
                             new GlitchScreenPacket(
-                                    0, // EFFECT_STATIC
+                                    GlitchScreenPacket.EFFECT_STATIC,
                                     0.4f, // Light effect
                                     15), // Brief duration
                             player);
@@ -673,7 +688,7 @@ public class Iteration extends Monster {
                     // Medium effect + slowness
                     NetworkHandler.sendToPlayer(
                             new GlitchScreenPacket(
-                                    1, // EFFECT_DISTORT
+                                    GlitchScreenPacket.EFFECT_DISTORTION,
                                     0.6f, // Medium effect
                                     20), // 1 second
                             player);
@@ -683,7 +698,7 @@ public class Iteration extends Monster {
                     // Severe effect + multiple debuffs
                     NetworkHandler.sendToPlayer(
                             new GlitchScreenPacket(
-                                    2, // EFFECT_CORRUPT
+                                    GlitchScreenPacket.EFFECT_CORRUPT,
                                     0.8f, // Strong effect
                                     30), // 1.5 seconds
                             player);
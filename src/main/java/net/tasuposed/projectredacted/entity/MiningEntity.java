@@ -30,7 +30,7 @@ import net.tasuposed.projectredacted.config.HorrorConfig;
  * "Mining form of entity" - an invisible entity that spawns in caves and walks toward 
  * the player while breaking blocks. Credit for the idea goes to a mod user.
  */
-public class MiningEntity extends Monster {
+public class MiningEntity extends HorrorMonster {
     private static final Logger LOGGER = LoggerFactory.getLogger(MiningEntity.class);
     
     // Following behavior
@@ -64,6 +64,9 @@ public class MiningEntity extends Monster {
     private final java.util.Set<BlockPos> recentlyProcessedBlocks = new java.util.HashSet<>();
     private int clearProcessedBlocksTimer = 100; // Clear list every 5 seconds
     
+    // Path searches are rate-limited across all horror entities
+    private final ThrottledPathfinder pathfinder = new ThrottledPathfinder(this);
+    
     public MiningEntity(EntityType<? extends Monster> entityType, Level level) {
         super(entityType, level);
         this.setInvisible(true);
@@ -137,15 +140,19 @@ public class MiningEntity extends Monster {
                 // Calculate distance to player
                 double distanceToPlayer = this.distanceTo(nearestPlayer);
                 
+                // Compute the waiting path once the shared budget allows and count failures
+                int pathResult = pathfinder.tick();
+                if (pathResult == ThrottledPathfinder.RESULT_FAILED) {
+                    pathfindFailures++;
+                    LOGGER.debug("MiningEntity pathfinding failed {} times", pathfindFailures);
+                } else if (pathResult == ThrottledPathfinder.RESULT_APPLIED) {
+                    pathfindFailures = 0;
+                }
+                
                 // Always try to follow the player if not already following
-                if (!this.getNavigation().isInProgress() && pathfindFailures < MAX_PATHFIND_FAILURES) {
-                    boolean pathSuccess = this.getNavigation().moveTo(targetPlayer, 0.35D);
-                    if (!pathSuccess) {
-                        pathfindFailures++;
-                        LOGGER.debug("MiningEntity pathfinding failed {} times", pathfindFailures);
-                    } else {
-                        pathfindFailures = 0;
-                    }
+                if (!this.getNavigation().isInProgress() && !pathfinder.isPending() 
+                        && pathfindFailures < MAX_PATHFIND_FAILURES) {
+                    pathfinder.requestPath(targetPlayer, 0.35D);
                 }
                 
                 // Track if we're getting closer to the player
@@ -408,7 +415,7 @@ public class MiningEntity extends Monster {
         public void start() {
             // Start moving to the player
             if (target != null) {
-                entity.getNavigation().moveTo(target, 0.3D);
+                entity.pathfinder.requestPath(target, 0.3D);
             }
         }
         
@@ -417,8 +424,8 @@ public class MiningEntity extends Monster {
             if (target != null) {
                 // Only update path when needed to reduce path calculations
                 pathUpdateTimer--;
-                if (pathUpdateTimer <= 0 || !entity.getNavigation().isInProgress()) {
-                    entity.getNavigation().moveTo(target, 0.35D);
+                if ((pathUpdateTimer <= 0 || !entity.getNavigation().isInProgress()) 
+                        && entity.pathfinder.requestPath(target, 0.35D)) {
                     pathUpdateTimer = PATH_UPDATE_INTERVAL;
                     
                     // Play a mining sound on path update with probability
@@ -455,6 +462,7 @@ public class MiningEntity extends Monster {
         
         @Override
         public void stop() {
+            entity.pathfinder.cancel();
             entity.getNavigation().stop();
             target = null;
         }
@@ -490,8 +498,8 @@ public class MiningEntity extends Monster {
         if (spawnType == MobSpawnType.NATURAL) {
             // Check entity cap in area
             if (level instanceof ServerLevel serverLevel) {
-                int countInArea = serverLevel.getEntitiesOfClass(MiningEntity.class, 
-                    net.minecraft.world.phys.AABB.ofSize(new Vec3(pos.getX(), pos.getY(), pos.getZ()), 128, 128, 128)).size();
+                int countInArea = HorrorEntityTracker.countNear(serverLevel, EntityRegistry.MINING_ENTITY.get(), 
+                    Vec3.atCenterOf(pos), 64.0D);
                     
                 if (countInArea >= MAX_ENTITIES_PER_AREA) {
                     return false;
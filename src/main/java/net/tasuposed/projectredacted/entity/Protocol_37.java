@@ -28,7 +28,7 @@ import net.tasuposed.projectredacted.config.HorrorConfig;
  * A mysterious entity that watches players from a distance
  * and disappears when approached
  */
-public class Protocol_37 extends Monster {
+public class Protocol_37 extends HorrorMonster {
     private static final Logger LOGGER = LoggerFactory.getLogger(Protocol_37.class);
     
     private int disappearTimer = 0;
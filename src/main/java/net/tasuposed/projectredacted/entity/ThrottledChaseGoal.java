@@ -0,0 +1,146 @@
+package net.tasuposed.projectredacted.entity;
+
+import java.util.EnumSet;
+
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Chase (and optionally melee) the current target using ThrottledPathfinder.
+ * Replaces MeleeAttackGoal/MoveTowardsTargetGoal for entities that hunt over long distances,
+ * since those re-path whenever they like with no shared limit.
+ */
+public class ThrottledChaseGoal extends Goal {
+    private static final int REPATH_INTERVAL = 10;
+    private static final int ATTACK_INTERVAL = 20;
+
+    // Re-path early if the target moved this far since the last request
+    private static final double TARGET_MOVED_SQR = 2.0 * 2.0;
+
+    private final PathfinderMob mob;
+    private final double speed;
+    private final boolean attack;
+    private final ThrottledPathfinder pathfinder;
+
+    private LivingEntity target;
+    private double lastTargetX;
+    private double lastTargetY;
+    private double lastTargetZ;
+    private int repathCooldown = 0;
+    private int attackCooldown = 0;
+
+    public ThrottledChaseGoal(PathfinderMob mob, double speed, boolean attack) {
+        this.mob = mob;
+        this.speed = speed;
+        this.attack = attack;
+        this.pathfinder = new ThrottledPathfinder(mob);
+        this.setFlags(EnumSet.of(Goal.Flag.MOVE, Goal.Flag.LOOK));
+    }
+
+    @Override
+    public boolean canUse() {
+        LivingEntity currentTarget = mob.getTarget();
+        if (currentTarget == null || !currentTarget.isAlive()) {
+            return false;
+        }
+
+        double followRange = mob.getAttributeValue(Attributes.FOLLOW_RANGE);
+        if (mob.distanceToSqr(currentTarget) > followRange * followRange) {
+            return false;
+        }
+
+        target = currentTarget;
+        return true;
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        if (target == null || !target.isAlive() || mob.getTarget() != target) {
+            return false;
+        }
+
+        if (target instanceof Player player && (player.isSpectator() || player.isCreative())) {
+            return false;
+        }
+
+        double followRange = mob.getAttributeValue(Attributes.FOLLOW_RANGE);
+        return mob.distanceToSqr(target) <= followRange * followRange;
+    }
+
+    @Override
+    public void start() {
+        mob.setAggressive(true);
+        repathCooldown = 0;
+        attackCooldown = 0;
+        requestPath();
+    }
+
+    @Override
+    public void stop() {
+        pathfinder.cancel();
+        mob.getNavigation().stop();
+        mob.setAggressive(false);
+        target = null;
+    }
+
+    @Override
+    public boolean requiresUpdateEveryTick() {
+        return true;
+    }
+
+    @Override
+    public void tick() {
+        if (target == null) {
+            return;
+        }
+
+        mob.getLookControl().setLookAt(target, 30.0F, 30.0F);
+
+        // Compute any waiting path - stale requests are just made again
+        if (pathfinder.tick() == ThrottledPathfinder.RESULT_STALE) {
+            repathCooldown = 0;
+        }
+
+        if (repathCooldown > 0) {
+            repathCooldown--;
+        }
+
+        // Re-path periodically, or early when the target moved or we ran out of path
+        if (repathCooldown <= 0 && !pathfinder.isPending()
+                && (mob.getNavigation().isDone() || target.distanceToSqr(lastTargetX, lastTargetY, lastTargetZ) > TARGET_MOVED_SQR)) {
+            requestPath();
+        }
+
+        if (attack) {
+            if (attackCooldown > 0) {
+                attackCooldown--;
+            }
+            checkAndPerformAttack();
+        }
+    }
+
+    private void requestPath() {
+        if (pathfinder.requestPath(target, speed)) {
+            lastTargetX = target.getX();
+            lastTargetY = target.getY();
+            lastTargetZ = target.getZ();
+            repathCooldown = REPATH_INTERVAL + mob.getRandom().nextInt(5);
+        }
+    }
+
+    /**
+     * Same reach check MeleeAttackGoal uses
+     */
+    private void checkAndPerformAttack() {
+        double reach = mob.getBbWidth() * 2.0F * mob.getBbWidth() * 2.0F + target.getBbWidth();
+        if (attackCooldown <= 0 && mob.distanceToSqr(target) <= reach && mob.getSensing().hasLineOfSight(target)) {
+            attackCooldown = adjustedTickDelay(ATTACK_INTERVAL);
+            mob.swing(InteractionHand.MAIN_HAND);
+            mob.doHurtTarget(target);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package net.tasuposed.projectredacted.entity;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.pathfinder.Path;
+
+/**
+ * Rate-limits path computation for long-range horror pursuers.
+ * A request is only recorded when it's made. The search itself runs on the server thread with
+ * the mob's own navigation, but only while this tick's shared budget lasts - the rest wait for
+ * a later tick. A crowd of pursuers re-pathing at once is spread out instead of stalling one tick.
+ */
+public class ThrottledPathfinder {
+    // Result codes returned from tick()
+    public static final int RESULT_NONE = 0;
+    public static final int RESULT_APPLIED = 1;
+    public static final int RESULT_FAILED = 2;
+    public static final int RESULT_STALE = 3;
+
+    // Path searches allowed per server tick across all horror entities
+    private static final int MAX_PATHS_PER_TICK = 4;
+
+    // Budget shared by every pursuer, reset when the server tick changes
+    private static int budgetTick = -1;
+    private static int pathsThisTick = 0;
+
+    private final Mob mob;
+    private boolean pending = false;
+    private Entity pendingTarget = null;
+    private double pendingSpeed = 1.0D;
+
+    public ThrottledPathfinder(Mob mob) {
+        this.mob = mob;
+    }
+
+    /**
+     * Ask for a path to the given entity, computed on this or a later tick
+     * @return false if a request is already waiting or the path can't be requested
+     */
+    public boolean requestPath(Entity target, double speed) {
+        if (pending || target == null || mob.level().isClientSide()) {
+            return false;
+        }
+
+        pending = true;
+        pendingTarget = target;
+        pendingSpeed = speed;
+        return true;
+    }
+
+    /**
+     * Check whether a path is waiting to be computed
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Compute the waiting path if the budget allows. Call this from the server tick of the owning entity.
+     * @return One of the RESULT_ constants
+     */
+    public int tick() {
+        if (!pending) {
+            return RESULT_NONE;
+        }
+
+        Entity target = pendingTarget;
+        if (mob.isRemoved() || target == null || !target.isAlive() || target.level() != mob.level()) {
+            clear();
+            return RESULT_STALE;
+        }
+
+        if (!takeBudget()) {
+            // Try again next tick - the target's position is read then, so nothing goes stale
+            return RESULT_NONE;
+        }
+
+        double speed = pendingSpeed;
+        clear();
+
+        Path path = mob.getNavigation().createPath(target, 0);
+        if (path == null) {
+            return RESULT_FAILED;
+        }
+
+        return mob.getNavigation().moveTo(path, speed) ? RESULT_APPLIED : RESULT_FAILED;
+    }
+
+    /**
+     * Drop any path that is still waiting
+     */
+    public void cancel() {
+        clear();
+    }
+
+    private void clear() {
+        pending = false;
+        pendingTarget = null;
+    }
+
+    private boolean takeBudget() {
+        MinecraftServer server = mob.getServer();
+        int tick = server != null ? server.getTickCount() : 0;
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            pathsThisTick = 0;
+        }
+
+        if (pathsThisTick >= MAX_PATHS_PER_TICK) {
+            return false;
+        }
+        pathsThisTick++;
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+package net.tasuposed.projectredacted.horror;
+
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.tasuposed.projectredacted.ProjectRedacted;
+
+/**
+ * Shared server-side deadline queue for delayed actions.
+ *
+ * Unlike server.tell(new TickTask(...)), which runs the task as soon as the server has spare
+ * time regardless of the tick passed in, deadlines here fire on the exact server tick they were
+ * scheduled for. Everything is driven from a single tick listener and cancelling is O(1).
+ */
+@Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
+public class DeadlineQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeadlineQueue.class);
+
+    private static final PriorityQueue<Deadline> queue = new PriorityQueue<>(
+            (a, b) -> a.tick != b.tick ? Long.compare(a.tick, b.tick) : Long.compare(a.order, b.order));
+
+    private static long currentTick = 0;
+    private static long scheduledCount = 0;
+
+    /**
+     * Run an action after the given number of server ticks
+     * @return Handle that can be used to cancel the deadline
+     */
+    public static Deadline schedule(int delayTicks, Runnable action) {
+        Deadline deadline = new Deadline(currentTick + Math.max(1, delayTicks), scheduledCount++, action);
+        queue.add(deadline);
+        return deadline;
+    }
+
+    /**
+     * Get the current server tick as seen by the queue
+     */
+    public static long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Get the number of deadlines waiting to fire (including cancelled ones not yet reached)
+     */
+    public static int size() {
+        return queue.size();
+    }
+
+    /**
+     * Fire all deadlines that are due
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        currentTick++;
+
+        while (!queue.isEmpty() && queue.peek().tick <= currentTick) {
+            Deadline deadline = queue.poll();
+            if (deadline.cancelled) {
+                continue;
+            }
+
+            try {
+                deadline.action.run();
+            } catch (Exception e) {
+                // Never let one broken action stop the rest of the queue
+                LOGGER.error("Error running scheduled deadline: ", e);
+            }
+        }
+    }
+
+    /**
+     * Drop everything when the server stops
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        queue.clear();
+        currentTick = 0;
+    }
+
+    /**
+     * A single scheduled action
+     */
+    public static class Deadline {
+        private final long tick;
+        private final long order;
+        private final Runnable action;
+        private boolean cancelled = false;
+
+        private Deadline(long tick, long order, Runnable action) {
+            this.tick = tick;
+            this.order = order;
+            this.action = action;
+        }
+
+        /**
+         * Cancel this deadline - it stays in the queue but won't run
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public long getTick() {
+            return tick;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import net.tasuposed.projectredacted.horror.stage.HorrorStage;
 import net.tasuposed.projectredacted.horror.stage.MetaStage;
 import net.tasuposed.projectredacted.horror.stage.ObviousStage;
 import net.tasuposed.projectredacted.horror.stage.SubtleStage;
+import net.tasuposed.projectredacted.network.ClientBudget;
 
 /**
  * Main manager for all horror elements in the mod.
@@ -386,6 +387,9 @@ public class HorrorManager {
                     LOGGER.debug("Environmental spawn modifier for {}: {}", 
                         player.getName().getString(), environmentModifier);
                 }
+                
+                // Fewer events for clients that report they're struggling to keep up
+                environmentModifier *= ClientBudget.getEventRateScale(serverPlayer);
             }
             
             // If underground, further reduce chance of events
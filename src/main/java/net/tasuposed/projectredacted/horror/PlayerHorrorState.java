@@ -2,6 +2,9 @@ package net.tasuposed.projectredacted.horror;
 
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import net.minecraft.world.entity.player.Player;
 import net.tasuposed.projectredacted.config.HorrorConfig;
 import net.minecraft.nbt.CompoundTag;
@@ -10,6 +13,8 @@ import net.minecraft.nbt.CompoundTag;
  * Tracks horror-related state for a specific player
  */
 public class PlayerHorrorState {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerHorrorState.class);
+    
     private UUID playerUUID;
     private String playerName;
     
@@ -160,9 +165,8 @@ public class PlayerHorrorState {
         
         // Add debug log
         if (timeSinceLastAdvance >= requiredTime) {
-            System.out.println("Player ready for stage advancement from " + currentStage + 
-                " to " + (currentStage + 1) + " after " + (timeSinceLastAdvance / 1000 / 60) + 
-                " minutes. Required: " + (requiredTime / 1000 / 60) + " minutes.");
+            LOGGER.debug("Player ready for stage advancement from {} to {} after {} minutes. Required: {} minutes.",
+                    currentStage, currentStage + 1, timeSinceLastAdvance / 1000 / 60, requiredTime / 1000 / 60);
         }
         
         return timeSinceLastAdvance >= requiredTime;
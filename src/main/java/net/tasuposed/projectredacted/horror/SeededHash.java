@@ -0,0 +1,23 @@
+package net.tasuposed.projectredacted.horror;
+
+/**
+ * Deterministic hashing for things that must come out the same every time they're asked for -
+ * across chunks, threads and restarts - without storing anything.
+ */
+public class SeededHash {
+    /**
+     * SplitMix64 finalizer - spreads the bits so neighbouring inputs come out unrelated
+     */
+    public static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * Mix the input and map it to a float in [0, 1)
+     */
+    public static float unitFloat(long hash) {
+        return (mix(hash) >>> 40) * 0x1.0p-24f;
+    }
+}
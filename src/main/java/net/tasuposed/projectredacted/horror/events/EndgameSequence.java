@@ -1,7 +1,8 @@
 package net.tasuposed.projectredacted.horror.events;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 
@@ -14,14 +15,19 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.tasuposed.projectredacted.horror.DeadlineQueue;
+import net.tasuposed.projectredacted.network.EffectTimeline;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.packets.ChatMessagePacket;
 import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -42,12 +48,20 @@ public class EndgameSequence {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static EndgameSequence instance;
     
-    // Track players currently in the endgame sequence
-    private final ConcurrentHashMap<UUID, SequenceState> activeSequences = new ConcurrentHashMap<>();
+    // Players currently in the endgame sequence - only touched when a sequence starts, changes phase or ends
+    private final Map<UUID, SequenceState> activeSequences = new HashMap<>();
     
     // Track if the world has been "erased"
     private boolean worldErased = false;
     
+    // Saved copy of the erased flag for the running server, written through whenever it changes
+    private EndgameSavedData savedData;
+    
+    // Takes all walking speed away for the length of the sequence
+    private static final UUID FREEZE_MODIFIER_ID = UUID.fromString("8f3c2a61-7d4e-4b9a-a1f5-3e6d0c9b2e74");
+    private static final AttributeModifier FREEZE_MODIFIER = new AttributeModifier(
+            FREEZE_MODIFIER_ID, "Endgame freeze", -1.0, AttributeModifier.Operation.MULTIPLY_TOTAL);
+    
     // Bedrock platform properties
     private static final int PLATFORM_SIZE = 7;
     private static final int PLATFORM_HEIGHT = 250;
@@ -71,6 +85,10 @@ public class EndgameSequence {
         "GOODBYE"
     };
     
+    // When the last message is shown, and when the world gets deleted
+    private static final int MONOLOGUE_END = DELAY_BEFORE_MONOLOGUE + TICKS_BETWEEN_MESSAGES * MONOLOGUE.length;
+    private static final int SEQUENCE_LENGTH = MONOLOGUE_END + TICKS_BEFORE_DELETION;
+    
     // Entity name that appears to be speaking to the player
     private static final String ENTITY_NAME = "U̷nknow̷n_En̸tity";
     
@@ -97,36 +115,13 @@ public class EndgameSequence {
      */
     public void setWorldErased(boolean erased) {
         this.worldErased = erased;
-        // Save this state to persistent storage
-        saveWorldErasedState();
-    }
-    
-    /**
-     * Save the world erased state to persistent storage
-     */
-    private void saveWorldErasedState() {
-        MinecraftServer server = null;
-        // Find any active player to get server reference
-        for (ServerPlayer player : activeSequences.values().stream()
-                .filter(state -> state.playerRef != null)
-                .map(state -> state.playerRef)
-                .toList()) {
-            server = player.getServer();
-            if (server != null) break;
-        }
         
-        if (server == null) return;
-        
-        ServerLevel overworld = server.getLevel(Level.OVERWORLD);
-        if (overworld == null) return;
-        
-        EndgameSavedData savedData = overworld.getDataStorage().computeIfAbsent(
-            EndgameSavedData::load, 
-            EndgameSavedData::new, 
-            "projectredacted_endgame_data");
-        
-        savedData.setWorldErased(worldErased);
-        savedData.setDirty();
+        // Save this state to persistent storage - just marks the data dirty, it's written with the level
+        if (savedData != null) {
+            savedData.setWorldErased(erased);
+        } else {
+            LOGGER.warn("Endgame data isn't loaded, world erased state won't be saved");
+        }
     }
     
     /**
@@ -138,7 +133,7 @@ public class EndgameSequence {
         ServerLevel overworld = server.getLevel(Level.OVERWORLD);
         if (overworld == null) return;
         
-        EndgameSavedData savedData = overworld.getDataStorage().computeIfAbsent(
+        savedData = overworld.getDataStorage().computeIfAbsent(
             EndgameSavedData::load, 
             EndgameSavedData::new, 
             "projectredacted_endgame_data");
@@ -157,29 +152,93 @@ public class EndgameSequence {
         
         LOGGER.info("Starting endgame sequence for player: {}", player.getName().getString());
         
+        // Starting again replaces a sequence that's already running
+        SequenceState previous = activeSequences.remove(player.getUUID());
+        if (previous != null) {
+            previous.cancel();
+        }
+        
         // Create platform and teleport player
         createBedrockPlatformAndTeleport(player);
         
-        // Freeze player movement by setting to spectator mode
+        // Freeze player movement - no breaking the platform, and no walking either
         player.setGameMode(GameType.ADVENTURE);
+        freeze(player);
         
         // Register this player with a new sequence state
-        SequenceState state = new SequenceState(player.getUUID());
+        SequenceState state = new SequenceState(player);
         activeSequences.put(player.getUUID(), state);
+        state.enter(Phase.MONOLOGUE, MONOLOGUE_END);
         
-        // Apply screen effects
-        NetworkHandler.sendToPlayer(
-                new GlitchScreenPacket(
-                        3, // EFFECT_INVERT
-                        0.7f,
-                        100), // 5 seconds
-                player);
+        // Send the whole monologue and its screen effects as one client-side timeline
+        buildMonologueTimeline().send(player);
         
         // Play a sound effect - use server-side playSound method with just position
         player.serverLevel().playSound(null, player.getX(), player.getY(), player.getZ(), 
                 SoundEvents.AMBIENT_CAVE.value(), player.getSoundSource(), 1.0f, 0.5f);
     }
     
+    private static void freeze(ServerPlayer player) {
+        AttributeInstance speed = player.getAttribute(Attributes.MOVEMENT_SPEED);
+        if (speed != null && !speed.hasModifier(FREEZE_MODIFIER)) {
+            // Transient, so a restart mid-sequence never leaves anyone stuck
+            speed.addTransientModifier(FREEZE_MODIFIER);
+        }
+    }
+    
+    private static void unfreeze(ServerPlayer player) {
+        AttributeInstance speed = player.getAttribute(Attributes.MOVEMENT_SPEED);
+        if (speed != null) {
+            speed.removeModifier(FREEZE_MODIFIER_ID);
+        }
+    }
+    
+    /**
+     * Build the scripted part of the sequence: screen effects, the monologue and the
+     * final glitches leading up to the world deletion
+     */
+    private EffectTimeline buildMonologueTimeline() {
+        EffectTimeline timeline = new EffectTimeline();
+        
+        // Apply screen effects
+        timeline.at(0, new GlitchScreenPacket(
+                GlitchScreenPacket.EFFECT_INVERT,
+                0.7f,
+                100)); // 5 seconds
+        
+        // Apply another screen effect when the monologue starts
+        timeline.at(DELAY_BEFORE_MONOLOGUE, new GlitchScreenPacket(
+                GlitchScreenPacket.EFFECT_DISTORTION,
+                0.9f,
+                60));
+        
+        // Display each monologue message with delay
+        for (int i = 0; i < MONOLOGUE.length; i++) {
+            int tick = DELAY_BEFORE_MONOLOGUE + TICKS_BETWEEN_MESSAGES * (i + 1);
+            
+            // Formatted like player chat - make the "GOODBYE" message red
+            ChatFormatting color = i == MONOLOGUE.length - 1 ? ChatFormatting.DARK_RED : ChatFormatting.WHITE;
+            timeline.at(tick, new ChatMessagePacket(
+                    Component.literal("<" + ENTITY_NAME + "> " + MONOLOGUE[i]).withStyle(color)));
+            
+            // Apply screen effect with each message
+            timeline.at(tick, new GlitchScreenPacket(
+                    (i % 3), // Alternate between effect types
+                    0.8f + (i * 0.03f), // Increase intensity
+                    40));
+        }
+        
+        // Intense glitches every second after the monologue, before world deletion
+        for (int i = 0; i < 10; i++) {
+            timeline.at(MONOLOGUE_END + i * 20, new GlitchScreenPacket(
+                    (int)(Math.random() * 4), // Random effect type 0-3
+                    0.8f + (i * 0.03f), // Increasing intensity
+                    15)); // Short glitches
+        }
+        
+        return timeline;
+    }
+    
     /**
      * Create a bedrock platform high in the sky and teleport the player to it
      */
@@ -257,181 +316,124 @@ public class EndgameSequence {
             // Send a final intense glitch effect
             NetworkHandler.sendToPlayer(
                     new GlitchScreenPacket(
-                            2, // EFFECT_CORRUPT
+                            GlitchScreenPacket.EFFECT_CORRUPT,
                             1.0f, // Maximum intensity
                             60), // 3 seconds
                     player);
         }
         
         // Schedule teleportation to void dimension with a slight delay
-        server.tell(new net.minecraft.server.TickTask(
-                server.getTickCount() + 40, () -> {
-                    // Instead of kicking, send all players to the void dimension
-                    ServerLevel voidLevel = server.getLevel(DimensionRegistry.THE_VOID);
-                    if (voidLevel != null) {
-                        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-                            // First a message
-                            Component message = Component.literal("The world has been erased").withStyle(ChatFormatting.DARK_RED);
-                            player.sendSystemMessage(message);
-                            
-                            // Then teleport to the void
-                            LOGGER.info("Teleporting player {} to The Void dimension as part of endgame", 
-                                    player.getName().getString());
-                            
-                            // Use TheVoidPortalHandler to handle the teleportation
-                            TheVoidPortalHandler.teleportPlayerToVoid(player, player.blockPosition());
-                        }
-                    } else {
-                        LOGGER.error("Failed to get The Void dimension for teleportation, kicking players instead");
-                        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-                            Component kickMessage = Component.literal("The world has been erased").withStyle(ChatFormatting.DARK_RED);
-                            player.connection.disconnect(kickMessage);
-                        }
-                    }
-                }));
+        DeadlineQueue.schedule(40, () -> {
+            // Instead of kicking, send all players to the void dimension
+            ServerLevel voidLevel = server.getLevel(DimensionRegistry.THE_VOID);
+            if (voidLevel != null) {
+                for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                    // First a message
+                    Component message = Component.literal("The world has been erased").withStyle(ChatFormatting.DARK_RED);
+                    player.sendSystemMessage(message);
+                    
+                    // Then teleport to the void
+                    LOGGER.info("Teleporting player {} to The Void dimension as part of endgame", 
+                            player.getName().getString());
+                    
+                    // Use TheVoidPortalHandler to handle the teleportation - it queues each player
+                    // on the TeleportPipeline, which spreads a full server over several ticks
+                    TheVoidPortalHandler.teleportPlayerToVoid(player, player.blockPosition());
+                }
+            } else {
+                LOGGER.error("Failed to get The Void dimension for teleportation, kicking players instead");
+                for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                    Component kickMessage = Component.literal("The world has been erased").withStyle(ChatFormatting.DARK_RED);
+                    player.connection.disconnect(kickMessage);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Phases of the sequence on the server. The monologue and glitches play back on the client,
+     * so all the server does is move between phases on schedule.
+     */
+    private enum Phase {
+        MONOLOGUE,      // Frozen on the platform while the monologue plays
+        FINAL_GLITCHES  // Glitches ramp up until the world is erased
     }
     
     /**
-     * Track the state of the endgame sequence for a player
+     * The endgame sequence for one player. Each phase schedules its own end on the DeadlineQueue.
      */
     private class SequenceState {
-        private final UUID playerUUID;
-        private int tickCounter = 0;
-        private int messageIndex = 0;
-        private boolean monologueStarted = false;
-        private boolean monologueFinished = false;
-        private boolean finalGlitchesStarted = false;
-        private int glitchCount = 0;
-        private ServerPlayer playerRef = null; // Reference to the player for easier access
-        
-        public SequenceState(UUID playerUUID) {
-            this.playerUUID = playerUUID;
+        private final ServerPlayer player;
+        private Phase phase;
+        private DeadlineQueue.Deadline next;
+        
+        public SequenceState(ServerPlayer player) {
+            this.player = player;
         }
         
-        public void tick(ServerPlayer player) {
-            this.playerRef = player; // Keep reference updated
-            tickCounter++;
-            
-            // Start monologue after initial delay
-            if (!monologueStarted && tickCounter >= DELAY_BEFORE_MONOLOGUE) {
-                monologueStarted = true;
-                tickCounter = 0; // Reset for message timing
-                
-                // Apply another screen effect
-                NetworkHandler.sendToPlayer(
-                        new GlitchScreenPacket(
-                                1, // EFFECT_DISTORTION
-                                0.9f,
-                                60), 
-                        player);
-            }
-            
-            // Display each monologue message with delay
-            if (monologueStarted && !monologueFinished) {
-                if (tickCounter >= TICKS_BETWEEN_MESSAGES && messageIndex < MONOLOGUE.length) {
-                    // Send next message formatted like player chat - special format for final message
-                    Component chatMessage;
-                    if (messageIndex == MONOLOGUE.length - 1) {
-                        // Make the "GOODBYE" message red
-                        chatMessage = Component.literal("<" + ENTITY_NAME + "> " + MONOLOGUE[messageIndex])
-                                .withStyle(ChatFormatting.DARK_RED);
-                    } else {
-                        chatMessage = Component.literal("<" + ENTITY_NAME + "> " + MONOLOGUE[messageIndex])
-                                .withStyle(ChatFormatting.WHITE);
-                    }
-                    
-                    // Send as chat message to simulate player chat
-                    player.sendSystemMessage(chatMessage);
-                    
-                    // Apply screen effect with each message
-                    NetworkHandler.sendToPlayer(
-                            new GlitchScreenPacket(
-                                    (messageIndex % 3), // Alternate between effect types
-                                    0.8f + (messageIndex * 0.03f), // Increase intensity
-                                    40), 
-                            player);
-                    
-                    messageIndex++;
-                    tickCounter = 0;
-                    
-                    // Check if monologue is complete
-                    if (messageIndex >= MONOLOGUE.length) {
-                        monologueFinished = true;
-                        finalGlitchesStarted = true;
-                        tickCounter = 0; // Reset counter for glitch sequence
-                    }
-                }
+        /**
+         * Move to a phase and schedule the move out of it
+         */
+        private void enter(Phase phase, int ticks) {
+            this.phase = phase;
+            this.next = DeadlineQueue.schedule(ticks, this::advance);
+        }
+        
+        private void advance() {
+            switch (phase) {
+                case MONOLOGUE:
+                    enter(Phase.FINAL_GLITCHES, SEQUENCE_LENGTH - MONOLOGUE_END);
+                    break;
+                case FINAL_GLITCHES:
+                    finish();
+                    break;
             }
+        }
+        
+        private void finish() {
+            // Remove from tracking
+            activeSequences.remove(player.getUUID(), this);
+            unfreeze(player);
             
-            // Add intense glitch effects after monologue is complete but before world deletion
-            if (monologueFinished && finalGlitchesStarted && tickCounter < TICKS_BEFORE_DELETION) {
-                // Create intense glitches every 20 ticks (1 second)
-                if (tickCounter % 20 == 0 && glitchCount < 10) {
-                    // Random glitch effect type
-                    int effectType = (int)(Math.random() * 4); // 0-3
-                    float intensity = 0.8f + (glitchCount * 0.03f); // Increasing intensity
-                    
-                    NetworkHandler.sendToPlayer(
-                            new GlitchScreenPacket(
-                                    effectType,
-                                    intensity,
-                                    15), // Short glitches
-                            player);
-                    
-                    glitchCount++;
-                }
+            // Start world deletion process
+            MinecraftServer server = player.getServer();
+            if (server != null) {
+                initiateWorldDeletion(server);
             }
-            
-            // Handle world deletion after monologue and glitch effects
-            if (monologueFinished && tickCounter >= TICKS_BEFORE_DELETION) {
-                // Remove from tracking
-                activeSequences.remove(playerUUID);
-                
-                // Start world deletion process
-                MinecraftServer server = player.getServer();
-                if (server != null) {
-                    initiateWorldDeletion(server);
-                }
+        }
+        
+        /**
+         * Stop the sequence without erasing anything
+         */
+        private void cancel() {
+            if (next != null) {
+                next.cancel();
             }
+            unfreeze(player);
         }
     }
     
     /**
-     * Handle player tick events to progress the endgame sequence
+     * Stop the sequence for players who log out
      */
     @SubscribeEvent
-    public void onPlayerTick(TickEvent.PlayerTickEvent event) {
-        // Only process server-side and at the end of the tick
-        if (event.phase != TickEvent.Phase.END || event.player.level().isClientSide()) {
-            return;
-        }
+    public void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        UUID playerId = event.getEntity().getUUID();
         
-        // Check if this player is in an active sequence
-        SequenceState state = activeSequences.get(event.player.getUUID());
-        if (state != null && event.player instanceof ServerPlayer serverPlayer) {
-            // We'll still apply movement limitations but allow the sequence to continue
-            // regardless of player position - this ensures the world deletion happens
-            
-            // Try to keep player on platform, but don't prevent sequence progression
-            Vec3 currentPos = serverPlayer.position();
-            
-            // Apply velocity changes to make movement difficult
-            serverPlayer.setDeltaMovement(0, 0, 0);
-            
-            // Progress the sequence (this will eventually trigger world deletion)
-            state.tick(serverPlayer);
+        // Remove from tracking if they log out
+        SequenceState state = activeSequences.remove(playerId);
+        if (state != null) {
+            state.cancel();
         }
     }
     
     /**
-     * Prevent players from leaving during the endgame sequence
+     * Forget the running server's state when it stops
      */
     @SubscribeEvent
-    public void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
-        UUID playerId = event.getEntity().getUUID();
-        
-        // Remove from tracking if they log out
-        activeSequences.remove(playerId);
+    public void onServerStopped(ServerStoppedEvent event) {
+        activeSequences.clear();
+        savedData = null;
     }
     
     /**
@@ -445,15 +447,18 @@ public class EndgameSequence {
                     player.getName().getString());
             
             // Schedule teleportation after they've properly loaded in
-            player.server.tell(new net.minecraft.server.TickTask(
-                    player.server.getTickCount() + 20, () -> {
+            DeadlineQueue.schedule(20, () -> {
+                if (player.hasDisconnected()) {
+                    return;
+                }
+                
                 // Send message
                 Component message = Component.literal("This world has been erased").withStyle(ChatFormatting.DARK_RED);
                 player.sendSystemMessage(message);
                 
                 // Teleport to void dimension
                 TheVoidPortalHandler.teleportPlayerToVoid(player, player.blockPosition());
-            }));
+            });
         }
     }
     
@@ -15,16 +15,18 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.phys.Vec3;
 import net.tasuposed.projectredacted.config.HorrorConfig;
 import net.tasuposed.projectredacted.entity.EntityRegistry;
+import net.tasuposed.projectredacted.entity.HorrorEntityTracker;
 import net.tasuposed.projectredacted.entity.Iteration;
 import net.tasuposed.projectredacted.entity.MiningEntity;
 import net.tasuposed.projectredacted.entity.Protocol_37;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.Recipients;
 import net.tasuposed.projectredacted.network.packets.GlitchEntityPacket;
 import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
+import net.tasuposed.projectredacted.network.packets.PhantomApparitionPacket;
 import net.tasuposed.projectredacted.network.packets.RenderDistancePacket;
 
 /**
@@ -37,6 +39,11 @@ public class EntityEvent {
     // Radius for multiplayer entity experience
     private static final double MULTIPLAYER_SYNC_RADIUS = 50.0;
     
+    // Client-only apparition settings
+    private static final int MAX_PHANTOM_DURATION = 120; // Longer sightings still use a real entity
+    private static final int PHANTOM_FADE_TICKS = 10;
+    private static final int SHADOW_FIGURE_LIFETIME = 40;
+    
     /**
      * Spawn a temporary shadow figure in the player's peripheral vision
      */
@@ -51,39 +58,37 @@ public class EntityEvent {
                 .add(lookVec.scale(10 + random.nextDouble() * 5)) // 10-15 blocks ahead
                 .add(sideVec.scale(side * (5 + random.nextDouble() * 8))); // 5-13 blocks to the side
         
-        // Create a temporary entity (something like an enderman would work well in a real implementation)
-        // Use any mob that can be easily seen at a distance
-        ServerLevel level = player.serverLevel();
-        
-        // In a real implementation, you'd spawn a custom entity here
-        // For now, we'll just send a glitch entity packet to make an existing entity appear glitched
-        List<Monster> nearbyMonsters = level.getEntitiesOfClass(Monster.class, player.getBoundingBox().inflate(20.0));
-        if (nearbyMonsters != null && !nearbyMonsters.isEmpty()) {
-            // Find the nearest monster to glitch
-            Monster entity = nearbyMonsters.get(0);
-            
-            // Send packet to triggering player and nearby players
-            applyEffectToPlayerAndNearby(player, 
-                p -> NetworkHandler.sendToPlayer(new GlitchEntityPacket(entity.getId()), p));
-        } else {
-            // No monsters found, log this event
-            LOGGER.debug("No monsters found for shadow figure effect for player {}", player.getName().getString());
-        }
+        // Show a client-only shadow figure - no server entity needed for a brief glimpse
+        Vec3 eyePos = player.getEyePosition();
+        Vec3 apparitionPos = new Vec3(spawnPos.x, player.getY(), spawnPos.z);
+        applyEffectToPlayerAndNearby(player, 
+            p -> NetworkHandler.sendToPlayer(new PhantomApparitionPacket(
+                    PhantomApparitionPacket.TYPE_SHADOW_FIGURE, apparitionPos, eyePos, 
+                    SHADOW_FIGURE_LIFETIME, PHANTOM_FADE_TICKS, 
+                    PhantomApparitionPacket.FLAG_VANISH_ON_LOOK), p));
     }
     
     /**
      * Spawn a glimpse of Iteration entity that quickly disappears
      */
     public void spawnIterationGlimpse(ServerPlayer player) {
-        // Spawn a temporary Iteration that will despawn quickly
-        ServerLevel level = player.serverLevel();
-        
+        // Client-only apparition that disappears on its own
+        PhantomApparitionPacket glimpse = createIterationGlimpse(player);
+        applyEffectToPlayerAndNearby(player, p -> NetworkHandler.sendToPlayer(glimpse, p));
+    }
+    
+    /**
+     * Create an Iteration glimpse behind the player without sending it, for use in timelines
+     */
+    public PhantomApparitionPacket createIterationGlimpse(ServerPlayer player) {
         // Position behind the player
         Vec3 lookVec = player.getViewVector(1.0F).normalize().scale(-10); // 10 blocks behind
         Vec3 spawnPos = player.position().add(lookVec);
+        Vec3 eyePos = player.getEyePosition();
         
-        // Spawn and schedule removal
-        spawnTemporaryEntity(level, EntityRegistry.ITERATION.get(), spawnPos, 60);
+        return new PhantomApparitionPacket(
+                PhantomApparitionPacket.TYPE_ITERATION, spawnPos, eyePos, 
+                60, PHANTOM_FADE_TICKS, 0);
     }
     
     /**
@@ -105,7 +110,7 @@ public class EntityEvent {
                 NetworkHandler.sendToPlayer(new GlitchEntityPacket(p.getId()), p);
                 
                 float intensity = p == player ? glitchIntensity : glitchIntensity * 0.7f;
-                NetworkHandler.sendToPlayer(new GlitchScreenPacket(0, intensity, 15), p);
+                NetworkHandler.sendToPlayer(new GlitchScreenPacket(GlitchScreenPacket.EFFECT_STATIC, intensity, 15), p);
             });
         }
         
@@ -230,11 +235,25 @@ public class EntityEvent {
             }
         }
         
+        // Short sightings are client-only apparitions - no server entity needed
+        if (duration > 0 && duration <= MAX_PHANTOM_DURATION) {
+            Vec3 apparitionPos = spawnPos;
+            Vec3 eyePos = player.getEyePosition();
+            applyEffectToPlayerAndNearby(player, 
+                p -> NetworkHandler.sendToPlayer(new PhantomApparitionPacket(
+                        PhantomApparitionPacket.TYPE_PROTOCOL_37, apparitionPos, eyePos, 
+                        duration, PHANTOM_FADE_TICKS, 
+                        PhantomApparitionPacket.FLAG_VANISH_ON_LOOK), p));
+            LOGGER.debug("Sent Protocol_37 apparition at {} for {} ticks", spawnPos, duration);
+            return;
+        }
+        
         // Spawn the entity with scheduled removal if duration > 0
         Protocol_37 entity = spawnTemporaryEntity(player.serverLevel(), 
                 EntityRegistry.PROTOCOL_37.get(), spawnPos, duration);
         
         if (entity != null) {
+            HorrorEntityTracker.assignTarget(entity, player);
             LOGGER.info("Successfully spawned Protocol_37 at {}", spawnPos);
         } else {
             LOGGER.error("Failed to spawn Protocol_37 entity at {}", spawnPos);
@@ -314,6 +333,12 @@ public class EntityEvent {
             
             entity.setPos(pos.x, pos.y, pos.z);
             
+            // Timed spawns never get saved - if the chunk unloads first they're simply gone.
+            // Spawns without a duration are permanent and saved like any other entity.
+            if (duration > 0) {
+                HorrorEntityTracker.markEphemeral(entity);
+            }
+            
             // Add to the world
             if (!level.addFreshEntity(entity)) {
                 LOGGER.error("Failed to add entity to the world");
@@ -322,8 +347,7 @@ public class EntityEvent {
             
             // Schedule it to be removed after specified duration (if duration > 0)
             if (duration > 0) {
-                level.getServer().tell(new net.minecraft.server.TickTask(
-                        level.getServer().getTickCount() + duration, entity::discard));
+                HorrorEntityTracker.expireAfter(entity, duration);
             }
             
             return entity;
@@ -378,17 +402,13 @@ public class EntityEvent {
         
         // If multiplayer syncing is enabled, also apply to nearby players with reduced effects
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    // Apply to nearby players with slightly less intense effect
-                    int nearbyRenderDistance = Math.min(renderDistance + 2, 8); // Less severe for nearby players
-                    int nearbyDuration = duration / 2; // Shorter duration
-                    
-                    NetworkHandler.sendToPlayer(
-                            new RenderDistancePacket(nearbyRenderDistance, nearbyDuration, fadeEffect),
-                            otherPlayer);
-                }
-            }
+            // Apply to nearby players with slightly less intense effect
+            int nearbyRenderDistance = Math.min(renderDistance + 2, 8); // Less severe for nearby players
+            int nearbyDuration = duration / 2; // Shorter duration
+            
+            // Everyone nearby gets the same effect, so encode it once for all of them
+            Recipients.nearbyPlayers(player, MULTIPLAYER_SYNC_RADIUS).send(
+                    new RenderDistancePacket(nearbyRenderDistance, nearbyDuration, fadeEffect));
         }
     }
     
@@ -508,6 +528,7 @@ public class EntityEvent {
         MiningEntity entity = spawnTemporaryEntity(level, EntityRegistry.MINING_ENTITY.get(), spawnPos, 0);
         
         if (entity != null) {
+            HorrorEntityTracker.assignTarget(entity, player);
             LOGGER.info("Successfully spawned MiningEntity at {} at distance {}", 
                     spawnPos, player.position().distanceTo(spawnPos));
             
@@ -7,12 +7,12 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.phys.Vec3;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.Recipients;
 import net.tasuposed.projectredacted.network.packets.PlaySoundPacket;
 import net.tasuposed.projectredacted.sound.SoundRegistry;
 import net.tasuposed.projectredacted.config.HorrorConfig;
 import net.minecraft.server.TickTask;
 
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -49,18 +49,13 @@ public class HorrorSoundEvent {
 
         // If multiplayer synchronization is enabled, also play for nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    new ResourceLocation("minecraft:ambient.cave"),
-                                    SoundSource.AMBIENT,
-                                    0.3f + random.nextFloat() * 0.2f,
-                                    0.8f + random.nextFloat() * 0.4f,
-                                    false, false),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(
+                    new PlaySoundPacket(
+                            new ResourceLocation("minecraft:ambient.cave"),
+                            SoundSource.AMBIENT,
+                            0.3f + random.nextFloat() * 0.2f,
+                            0.8f + random.nextFloat() * 0.4f,
+                            false, false));
         }
     }
 
@@ -69,32 +64,26 @@ public class HorrorSoundEvent {
      */
     public void playDistortedSound(ServerPlayer player) {
         // Send a packet to play distorted sound on client
-        NetworkHandler.sendToPlayer(
-                new PlaySoundPacket(
-                        new ResourceLocation("minecraft:ambient.cave"),
-                        SoundSource.HOSTILE,
-                        0.6f,
-                        0.5f,
-                        true, false),
-                player);
+        NetworkHandler.sendToPlayer(createDistortedSound(), player);
 
         // If multiplayer synchronization is enabled, also play for nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    new ResourceLocation("minecraft:ambient.cave"),
-                                    SoundSource.HOSTILE,
-                                    0.6f,
-                                    0.5f,
-                                    true, false),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(createDistortedSound());
         }
     }
 
+    /**
+     * Create the distorted sound effect without sending it, for use in timelines
+     */
+    public PlaySoundPacket createDistortedSound() {
+        return new PlaySoundPacket(
+                new ResourceLocation("minecraft:ambient.cave"),
+                SoundSource.HOSTILE,
+                0.6f,
+                0.5f,
+                true, false);
+    }
+
     /**
      * Play a creepy whisper directly to the player
      */
@@ -119,19 +108,14 @@ public class HorrorSoundEvent {
             // Use the same pitch for all players to keep it synchronized
             float sharedPitch = random.nextFloat() * 0.3f + 0.4f;
 
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    whisperSound.getLocation(),
-                                    SoundSource.HOSTILE,
-                                    0.35f,
-                                    sharedPitch, // Use the same pitch for consistency
-                                    true,
-                                    false), // Non-locational sound
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(
+                    new PlaySoundPacket(
+                            whisperSound.getLocation(),
+                            SoundSource.HOSTILE,
+                            0.35f,
+                            sharedPitch, // Use the same pitch for consistency
+                            true,
+                            false));
         }
     }
 
@@ -155,19 +139,14 @@ public class HorrorSoundEvent {
 
         // If multiplayer synchronization is enabled, also play for nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    heartbeatSound.getLocation(),
-                                    SoundSource.MASTER,
-                                    0.8f,
-                                    1.0f,
-                                    false,
-                                    false), // Non-locational sound
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(
+                    new PlaySoundPacket(
+                            heartbeatSound.getLocation(),
+                            SoundSource.MASTER,
+                            0.8f,
+                            1.0f,
+                            false,
+                            false));
         }
     }
 
@@ -190,18 +169,13 @@ public class HorrorSoundEvent {
 
         // If multiplayer synchronization is enabled, also play for nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    growlSound.getLocation(),
-                                    SoundSource.HOSTILE,
-                                    0.9f,
-                                    0.7f,
-                                    true, false),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(
+                    new PlaySoundPacket(
+                            growlSound.getLocation(),
+                            SoundSource.HOSTILE,
+                            0.9f,
+                            0.7f,
+                            true, false));
         }
     }
 
@@ -219,20 +193,18 @@ public class HorrorSoundEvent {
                         true, false),
                 player);
 
+        // One recipient set for the whole sequence - it follows the player between sounds
+        Recipients nearby = nearbyPlayers(player);
+
         // If multiplayer synchronization is enabled, also play for nearby players (initial sound)
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    SoundEvents.GLASS_BREAK.getLocation(),
-                                    SoundSource.MASTER,
-                                    0.5f,
-                                    2.0f,
-                                    true, false),
-                            otherPlayer);
-                }
-            }
+            nearby.send(
+                    new PlaySoundPacket(
+                            SoundEvents.GLASS_BREAK.getLocation(),
+                            SoundSource.MASTER,
+                            0.5f,
+                            2.0f,
+                            true, false));
         }
 
         // Quickly follow with a second sound for more intensity
@@ -249,18 +221,13 @@ public class HorrorSoundEvent {
 
             // If multiplayer synchronization is enabled, also play for nearby players (second sound)
             if (shouldSyncMultiplayer()) {
-                for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                    if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                        NetworkHandler.sendToPlayer(
-                                new PlaySoundPacket(
-                                        SoundEvents.ELDER_GUARDIAN_CURSE.getLocation(),
-                                        SoundSource.HOSTILE,
-                                        0.7f,
-                                        0.5f,
-                                        true, false),
-                                otherPlayer);
-                    }
-                }
+                nearby.send(
+                        new PlaySoundPacket(
+                                SoundEvents.ELDER_GUARDIAN_CURSE.getLocation(),
+                                SoundSource.HOSTILE,
+                                0.7f,
+                                0.5f,
+                                true, false));
             }
         }));
     }
@@ -285,21 +252,19 @@ public class HorrorSoundEvent {
                         false), // Non-locational sound
                 player);
 
+        // One recipient set for the whole sequence - it follows the player between sounds
+        Recipients nearby = nearbyPlayers(player);
+
         // If multiplayer synchronization is enabled, also play for nearby players (first whisper)
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    whisperSound.getLocation(),
-                                    SoundSource.HOSTILE,
-                                    0.6f,
-                                    0.4f,
-                                    true,
-                                    false), // Non-locational sound
-                            otherPlayer);
-                }
-            }
+            nearby.send(
+                    new PlaySoundPacket(
+                            whisperSound.getLocation(),
+                            SoundSource.HOSTILE,
+                            0.6f,
+                            0.4f,
+                            true,
+                            false));
         }
 
         // Second whisper - from left/right after a short delay (non-locational)
@@ -317,19 +282,14 @@ public class HorrorSoundEvent {
 
             // If multiplayer synchronization is enabled, also play for nearby players (second whisper)
             if (shouldSyncMultiplayer()) {
-                for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                    if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                        NetworkHandler.sendToPlayer(
-                                new PlaySoundPacket(
-                                        whisperSound.getLocation(),
-                                        SoundSource.HOSTILE,
-                                        0.7f,
-                                        0.3f,
-                                        true,
-                                        false), // Non-locational sound
-                                otherPlayer);
-                    }
-                }
+                nearby.send(
+                        new PlaySoundPacket(
+                                whisperSound.getLocation(),
+                                SoundSource.HOSTILE,
+                                0.7f,
+                                0.3f,
+                                true,
+                                false));
             }
         }));
 
@@ -348,19 +308,14 @@ public class HorrorSoundEvent {
 
             // If multiplayer synchronization is enabled, also play for nearby players (third whisper)
             if (shouldSyncMultiplayer()) {
-                for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                    if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                        NetworkHandler.sendToPlayer(
-                                new PlaySoundPacket(
-                                        whisperSound.getLocation(),
-                                        SoundSource.MASTER,
-                                        0.8f,
-                                        0.2f,
-                                        true,
-                                        false), // Non-locational sound
-                                otherPlayer);
-                    }
-                }
+                nearby.send(
+                        new PlaySoundPacket(
+                                whisperSound.getLocation(),
+                                SoundSource.MASTER,
+                                0.8f,
+                                0.2f,
+                                true,
+                                false));
             }
         }));
     }
@@ -387,19 +342,14 @@ public class HorrorSoundEvent {
         if (shouldSyncMultiplayer()) {
             float sharedPitch = random.nextFloat() * 0.2f + 0.9f;
             
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    screamSound.getLocation(),
-                                    SoundSource.HOSTILE,
-                                    0.95f,
-                                    sharedPitch,
-                                    true,
-                                    true),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(
+                    new PlaySoundPacket(
+                            screamSound.getLocation(),
+                            SoundSource.HOSTILE,
+                            0.95f,
+                            sharedPitch,
+                            true,
+                            true));
         }
     }
     
@@ -423,19 +373,14 @@ public class HorrorSoundEvent {
 
         // If multiplayer synchronization is enabled, also play for nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    warpSound.getLocation(),
-                                    SoundSource.AMBIENT,
-                                    0.8f,
-                                    1.0f,
-                                    true,
-                                    false),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(
+                    new PlaySoundPacket(
+                            warpSound.getLocation(),
+                            SoundSource.AMBIENT,
+                            0.8f,
+                            1.0f,
+                            true,
+                            false));
         }
     }
     
@@ -459,31 +404,23 @@ public class HorrorSoundEvent {
 
         // If multiplayer synchronization is enabled, also play for nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new PlaySoundPacket(
-                                    musicSound.getLocation(),
-                                    SoundSource.MUSIC,
-                                    0.6f,
-                                    1.0f,
-                                    false,
-                                    true),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(
+                    new PlaySoundPacket(
+                            musicSound.getLocation(),
+                            SoundSource.MUSIC,
+                            0.6f,
+                            1.0f,
+                            false,
+                            true));
         }
     }
 
     /**
-     * Get a list of all nearby players to share the experience with
+     * The nearby players to share the experience with, as one recipient set
+     * so the area is only resolved to players once per tick
      */
-    private List<ServerPlayer> getNearbyPlayers(ServerPlayer player) {
-        if (player.level().getServer() == null) {
-            return java.util.Collections.emptyList();
-        }
-
-        return player.level().getServer().getPlayerList().getPlayers();
+    private Recipients nearbyPlayers(ServerPlayer player) {
+        return Recipients.nearbyPlayers(player, MULTIPLAYER_SYNC_RADIUS);
     }
 
     /**
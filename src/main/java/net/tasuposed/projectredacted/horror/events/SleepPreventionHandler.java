@@ -1,32 +1,27 @@
 package net.tasuposed.projectredacted.horror.events;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
-import java.util.HashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
-import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
-import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerSleepInBedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.tasuposed.projectredacted.ProjectRedacted;
-import net.tasuposed.projectredacted.entity.Iteration;
-import net.tasuposed.projectredacted.entity.Protocol_37;
+import net.tasuposed.projectredacted.entity.EntityRegistry;
+import net.tasuposed.projectredacted.entity.HorrorEntityTracker;
+import net.tasuposed.projectredacted.horror.SeededHash;
 
 /**
  * Handles preventing the player from sleeping when horror entities are nearby
@@ -36,6 +31,10 @@ import net.tasuposed.projectredacted.entity.Protocol_37;
  * - Detects horror entities nearby and prevents sleep
  * - Random nightmare nights where sleep is impossible
  * - Atmospheric messages and subtle effects
+ * 
+ * Nothing is tracked between sleep attempts - whether a night is a nightmare night
+ * follows from the world seed, the day and the player, so there's no cost outside
+ * the attempts themselves.
  */
 @Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
 public class SleepPreventionHandler {
@@ -45,15 +44,11 @@ public class SleepPreventionHandler {
     // Configuration settings
     private static final double DETECTION_RADIUS = 50.0D;
     private static final float NIGHTMARE_NIGHT_CHANCE = 0.15F; // 15% chance per night
-    private static final long CLEANUP_INTERVAL = 1200; // Ticks (1 minute)
     
     // Atmosphere settings
     private static final float AMBIENT_SOUND_CHANCE = 0.7F; // 70% chance to play ambient sound
     private static final float VISUAL_EFFECT_CHANCE = 0.5F; // 50% chance for subtle visual effect
     
-    // Track which players are experiencing a nightmare night
-    private static final Map<UUID, Long> playerNightmareNights = new HashMap<>();
-    
     /**
      * Sleep prevention event handler - called when player attempts to sleep
      */
@@ -61,8 +56,8 @@ public class SleepPreventionHandler {
     public static void onPlayerSleep(PlayerSleepInBedEvent event) {
         Player player = event.getEntity();
         
-        // Only check in survival/adventure mode
-        if (player.isCreative() || player.isSpectator()) {
+        // Only check in survival/adventure mode, and only on the server
+        if (player.isCreative() || player.isSpectator() || !(player.level() instanceof ServerLevel level)) {
             return;
         }
         
@@ -73,28 +68,24 @@ public class SleepPreventionHandler {
         }
         
         // Check if this is a nightmare night for the player
-        UUID playerId = player.getUUID();
-        Level level = player.level();
         long currentDay = level.getDayTime() / 24000L;
-        
-        // If not tracked yet for this day, roll to determine if it's a nightmare night
-        if (!playerNightmareNights.containsKey(playerId) || playerNightmareNights.get(playerId) < currentDay) {
-            boolean isNightmareNight = RANDOM.nextFloat() < NIGHTMARE_NIGHT_CHANCE;
-            if (isNightmareNight) {
-                playerNightmareNights.put(playerId, currentDay);
-                LOGGER.debug("Player {} is experiencing a nightmare night", player.getName().getString());
-            } else {
-                // Not a nightmare night, allow sleep
-                return;
-            }
-        }
-        
-        // If we reach here, it's a nightmare night
-        if (playerNightmareNights.get(playerId) == currentDay) {
+        if (isNightmareNight(level.getSeed(), currentDay, player.getUUID())) {
+            LOGGER.debug("Player {} is experiencing a nightmare night", player.getName().getString());
             preventSleep(event, player, false);
         }
     }
     
+    /**
+     * Whether a day is a nightmare night for a player. The same answer every time it's asked
+     * that day, and across restarts.
+     */
+    private static boolean isNightmareNight(long seed, long day, UUID playerId) {
+        long key = seed ^ playerId.getMostSignificantBits()
+                ^ Long.rotateLeft(playerId.getLeastSignificantBits(), 32)
+                ^ day * 0x9E3779B97F4A7C15L;
+        return SeededHash.unitFloat(key) < NIGHTMARE_NIGHT_CHANCE;
+    }
+    
     /**
      * Prevent player from sleeping and show a message with atmospheric effects
      */
@@ -236,46 +227,12 @@ public class SleepPreventionHandler {
         }
     }
     
-    /**
-     * Check world time changes to track when night begins/ends
-     */
-    @SubscribeEvent
-    public static void onWorldTick(TickEvent.LevelTickEvent event) {
-        if (event.phase == TickEvent.Phase.END) {
-            // Clean up old nightmare nights periodically to prevent memory leaks
-            if (event.level.getGameTime() % CLEANUP_INTERVAL == 0) { 
-                long currentDay = event.level.getDayTime() / 24000L;
-                playerNightmareNights.entrySet().removeIf(entry -> entry.getValue() < currentDay);
-            }
-        }
-    }
-    
     /**
      * Check if horror entities are nearby the player
      */
     private static boolean areHorrorEntitiesNearby(Player player) {
-        // Check area around player for horror entities
-        AABB searchBox = player.getBoundingBox().inflate(DETECTION_RADIUS);
-        Level level = player.level();
-        
-        // Check for Iteration entities first
-        List<Iteration> iterations = level.getEntitiesOfClass(
-                Iteration.class, 
-                searchBox);
-        
-        if (!iterations.isEmpty()) {
-            return true; // Found Iteration entity nearby
-        }
-        
-        // Check for Protocol_37 entities
-        List<Protocol_37> protocol37s = level.getEntitiesOfClass(
-                Protocol_37.class, 
-                searchBox);
-        
-        if (!protocol37s.isEmpty()) {
-            return true; // Found Protocol_37 entity nearby
-        }
-        
-        return false; // No horror entities found nearby
+        // Indexed lookup - chunks without either type are skipped on their presence mask
+        return HorrorEntityTracker.isAnyNear(player.level(), player.position(), DETECTION_RADIUS,
+                EntityRegistry.ITERATION.get(), EntityRegistry.PROTOCOL_37.get());
     }
 } 
\ No newline at end of file
@@ -2,10 +2,10 @@ package net.tasuposed.projectredacted.horror.events;
 
 import net.minecraft.server.level.ServerPlayer;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.Recipients;
 import net.tasuposed.projectredacted.network.packets.TextureGlitchPacket;
 import net.tasuposed.projectredacted.config.HorrorConfig;
 
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -34,13 +34,7 @@ public class TextureEvent {
         
         // If multiplayer synchronization is enabled, also send to nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new TextureGlitchPacket(glitchType, duration),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(new TextureGlitchPacket(glitchType, duration));
         }
     }
     
@@ -61,13 +55,7 @@ public class TextureEvent {
         
         // If multiplayer synchronization is enabled, also send to nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new TextureGlitchPacket(glitchType, duration),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(new TextureGlitchPacket(glitchType, duration));
         }
     }
     
@@ -105,25 +93,16 @@ public class TextureEvent {
         
         // If multiplayer synchronization is enabled, also send to nearby players
         if (shouldSyncMultiplayer()) {
-            for (ServerPlayer otherPlayer : getNearbyPlayers(player)) {
-                if (otherPlayer != player && otherPlayer.distanceTo(player) < MULTIPLAYER_SYNC_RADIUS) {
-                    NetworkHandler.sendToPlayer(
-                            new TextureGlitchPacket(glitchType, duration),
-                            otherPlayer);
-                }
-            }
+            nearbyPlayers(player).send(new TextureGlitchPacket(glitchType, duration));
         }
     }
     
     /**
-     * Get a list of all nearby players to share the experience with
+     * The nearby players to share the experience with, as one recipient set
+     * so the area is only resolved to players once per tick
      */
-    private List<ServerPlayer> getNearbyPlayers(ServerPlayer player) {
-        if (player.level().getServer() == null) {
-            return java.util.Collections.emptyList();
-        }
-        
-        return player.level().getServer().getPlayerList().getPlayers();
+    private Recipients nearbyPlayers(ServerPlayer player) {
+        return Recipients.nearbyPlayers(player, MULTIPLAYER_SYNC_RADIUS);
     }
     
     /**
@@ -87,7 +87,7 @@ public class DisturbanceStage implements HorrorStage {
                 // Screen glitch
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                1, // EFFECT_DISTORTION
+                                GlitchScreenPacket.EFFECT_DISTORTION,
                                 0.5f, // Medium intensity
                                 30), // 1.5 seconds
                         serverPlayer);
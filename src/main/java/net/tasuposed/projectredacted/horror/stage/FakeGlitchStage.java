@@ -83,7 +83,7 @@ public class FakeGlitchStage implements HorrorStage {
                 // Also send a screen glitch for extra effect
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.8f, // High intensity
                                 35), // 1.75 seconds
                         serverPlayer);
@@ -92,7 +92,7 @@ public class FakeGlitchStage implements HorrorStage {
                 // Fake game freeze - send a long-duration low-intensity static
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                1, // EFFECT_FREEZE
+                                GlitchScreenPacket.EFFECT_DISTORTION,
                                 0.3f, // Low intensity but noticeable
                                 80), // 4 seconds of "freeze"
                         serverPlayer);
@@ -105,7 +105,7 @@ public class FakeGlitchStage implements HorrorStage {
                     // Brief corruption after the freeze
                     NetworkHandler.sendToPlayer(
                             new GlitchScreenPacket(
-                                    2, // EFFECT_CORRUPT
+                                    GlitchScreenPacket.EFFECT_CORRUPT,
                                     0.5f, // Medium intensity
                                     15), // Quick flash
                             serverPlayer);
@@ -124,7 +124,7 @@ public class FakeGlitchStage implements HorrorStage {
         // Brief screen flash
         NetworkHandler.sendToPlayer(
                 new GlitchScreenPacket(
-                        0, // EFFECT_STATIC
+                        GlitchScreenPacket.EFFECT_STATIC,
                         1.0f, // Maximum intensity
                         10), // Brief flash
                 player);
@@ -147,7 +147,7 @@ public class FakeGlitchStage implements HorrorStage {
         // First create screen static to build tension
         NetworkHandler.sendToPlayer(
                 new GlitchScreenPacket(
-                        0, // EFFECT_STATIC
+                        GlitchScreenPacket.EFFECT_STATIC,
                         0.6f, // Medium-high intensity
                         20), // 1 second
                 player);
@@ -17,6 +17,7 @@ import net.tasuposed.projectredacted.horror.events.EndgameSequence;
 import net.tasuposed.projectredacted.horror.events.EntityEvent;
 import net.tasuposed.projectredacted.horror.events.HorrorSoundEvent;
 import net.tasuposed.projectredacted.horror.events.TextureEvent;
+import net.tasuposed.projectredacted.network.EffectTimeline;
 import net.tasuposed.projectredacted.network.NetworkHandler;
 import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
 
@@ -172,34 +173,21 @@ public class FinalStage implements HorrorStage {
                 // Add extreme screen distortion
                 NetworkHandler.sendToPlayer(
                     new GlitchScreenPacket(
-                        2, // EFFECT_CORRUPT
+                        GlitchScreenPacket.EFFECT_CORRUPT,
                         0.9f, // High intensity
                         30), // 1.5 seconds
                     serverPlayer);
                 break;
             case 4:
                 // Complete world distortion - significantly enhanced with multiple effects
+                // plus a delayed secondary layer of effects
                 applyWorldDistortion(serverPlayer);
-                // Add delayed secondary effect
-                serverPlayer.level().getServer().tell(new net.minecraft.server.TickTask(
-                    serverPlayer.level().getServer().getTickCount() + 60, // 3 second delay
-                    () -> {
-                        // Add another layer of effects
-                        NetworkHandler.sendToPlayer(
-                            new GlitchScreenPacket(
-                                3, // EFFECT_INVERT
-                                0.9f,
-                                40), 
-                            serverPlayer);
-                        soundEvent.playDistortedSound(serverPlayer);
-                    }
-                ));
                 break;
             case 5:
                 // Since we didn't disconnect, apply an intense visual corruption
                 NetworkHandler.sendToPlayer(
                     new GlitchScreenPacket(
-                        2, // EFFECT_CORRUPT
+                        GlitchScreenPacket.EFFECT_CORRUPT,
                         1.0f, // Maximum intensity
                         60), // 3 seconds
                     serverPlayer);
@@ -233,7 +221,7 @@ public class FinalStage implements HorrorStage {
         // Apply intense screen effect before endgame
         NetworkHandler.sendToPlayer(
             new GlitchScreenPacket(
-                3, // EFFECT_INVERT 
+                GlitchScreenPacket.EFFECT_INVERT,
                 1.0f, // Maximum intensity
                 40), // 2 seconds
             player);
@@ -249,24 +237,27 @@ public class FinalStage implements HorrorStage {
      * Apply world distortion effect - extracted method for better code organization
      */
     private void applyWorldDistortion(ServerPlayer player) {
-        // More intense distortion in final stage
-        NetworkHandler.sendToPlayer(
-                new GlitchScreenPacket(
-                        2, // EFFECT_CORRUPT
-                        1.0f, // Maximum intensity
-                        180), // 9 seconds - extended duration
-                player);
-        
         textureEvent.sendCorruptTexturePacket(player, 1.0f);
         
         // Also play heartbeat sound with distorted sound
         soundEvent.playHeartbeat(player);
         
-        // Add a delayed distorted sound for more terror
-        player.level().getServer().tell(new net.minecraft.server.TickTask(
-            player.level().getServer().getTickCount() + 40, // 2 second delay
-            () -> soundEvent.playDistortedSound(player)
-        ));
+        // The timed part of the distortion plays back on the client
+        new EffectTimeline()
+                // More intense distortion in final stage
+                .at(0, new GlitchScreenPacket(
+                        GlitchScreenPacket.EFFECT_CORRUPT,
+                        1.0f, // Maximum intensity
+                        180)) // 9 seconds - extended duration
+                // Add a delayed distorted sound for more terror
+                .atShared(40, soundEvent.createDistortedSound()) // 2 second delay
+                // Add another layer of effects after 3 seconds
+                .at(60, new GlitchScreenPacket(
+                        GlitchScreenPacket.EFFECT_INVERT,
+                        0.9f,
+                        40))
+                .atShared(60, soundEvent.createDistortedSound())
+                .send(player);
     }
     
     /**
@@ -289,7 +280,7 @@ public class FinalStage implements HorrorStage {
         // More dramatic screen flash
         NetworkHandler.sendToPlayer(
                 new GlitchScreenPacket(
-                        0, // EFFECT_STATIC
+                        GlitchScreenPacket.EFFECT_STATIC,
                         1.0f,
                         30), // 1.5 seconds
                 player);
@@ -324,7 +315,7 @@ public class FinalStage implements HorrorStage {
         // Add extremely dramatic screen effects - shorter but more intense
         NetworkHandler.sendToPlayer(
                 new GlitchScreenPacket(
-                        3, // EFFECT_INVERT
+                        GlitchScreenPacket.EFFECT_INVERT,
                         1.0f, // Maximum intensity
                         60), // 3 seconds
                 player);
@@ -12,7 +12,9 @@ import net.minecraft.world.phys.Vec3;
 import net.tasuposed.projectredacted.horror.events.EntityEvent;
 import net.tasuposed.projectredacted.horror.events.HorrorSoundEvent;
 import net.tasuposed.projectredacted.horror.events.TextureEvent;
+import net.tasuposed.projectredacted.network.EffectTimeline;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.packets.ChatMessagePacket;
 import net.tasuposed.projectredacted.network.packets.FakeCrashPacket;
 import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
 import net.tasuposed.projectredacted.network.packets.InventoryShiftPacket;
@@ -147,7 +149,7 @@ public class MetaStage implements HorrorStage {
                 // Add a severe screen glitch before the reveal
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.8f, // Very noticeable
                                 20), // 1 second 
                         serverPlayer);
@@ -174,7 +176,7 @@ public class MetaStage implements HorrorStage {
                         serverPlayer.server.getTickCount() + 20, () -> {
                     NetworkHandler.sendToPlayer(
                             new GlitchScreenPacket(
-                                    3, // EFFECT_INVERT
+                                    GlitchScreenPacket.EFFECT_INVERT,
                                     0.95f, // Extremely noticeable
                                     40), // 2 seconds 
                             serverPlayer);
@@ -196,7 +198,7 @@ public class MetaStage implements HorrorStage {
                 // Add screen visual corruption
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                1, // EFFECT_DISTORT
+                                GlitchScreenPacket.EFFECT_DISTORTION,
                                 0.7f, // Quite noticeable
                                 60), // 3 seconds
                         serverPlayer);
@@ -210,7 +212,7 @@ public class MetaStage implements HorrorStage {
                 // Send a heavier screen corruption effect
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.95f, // Extreme corruption
                                 100), // 5 seconds 
                         serverPlayer);
@@ -231,7 +233,7 @@ public class MetaStage implements HorrorStage {
                 // Add screen pulse effect
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                0, // EFFECT_STATIC
+                                GlitchScreenPacket.EFFECT_STATIC,
                                 0.7f, // Medium intensity
                                 80), // 4 seconds
                         serverPlayer);
@@ -245,7 +247,7 @@ public class MetaStage implements HorrorStage {
                 // Brief screen flash
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                0, // EFFECT_STATIC
+                                GlitchScreenPacket.EFFECT_STATIC,
                                 1.0f, // Maximum intensity
                                 10), // Brief flash
                         serverPlayer);
@@ -271,27 +273,16 @@ public class MetaStage implements HorrorStage {
                 // Screen distortion
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                1, // EFFECT_DISTORT
+                                GlitchScreenPacket.EFFECT_DISTORTION,
                                 0.8f, // High intensity
                                 40), // 2 seconds
                         serverPlayer);
                 
-                try {
-                    // Log the inventory shift attempt
-                    System.out.println("[MetaStage] Attempting to send inventory shift packet to player: " + serverPlayer.getName().getString());
-                    
-                    // Shift inventory items with more random shuffling
-                    NetworkHandler.sendToPlayer(
-                            new InventoryShiftPacket(),
-                            serverPlayer);
-                    
-                    // Log success
-                    System.out.println("[MetaStage] Successfully sent inventory shift packet");
-                } catch (Exception e) {
-                    // Log failure
-                    System.err.println("[MetaStage] Failed to send inventory shift packet: " + e.getMessage());
-                    e.printStackTrace();
-                }
+                // Shift inventory items with more random shuffling
+                // (send failures are logged and counted by NetworkTelemetry)
+                NetworkHandler.sendToPlayer(
+                        new InventoryShiftPacket(),
+                        serverPlayer);
                 
                 // Play unsettling sound
                 soundEvent.playHorrorWhisper(serverPlayer);
@@ -310,7 +301,7 @@ public class MetaStage implements HorrorStage {
                 // Send an unsettling message with screen effects
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.6f, // Medium corruption
                                 30), // 1.5 seconds
                         serverPlayer);
@@ -333,28 +324,19 @@ public class MetaStage implements HorrorStage {
                     serverPlayer.sendSystemMessage(Component.literal("§aScreenshot saved as §escreenshots/" + timestamp + ".png"));
                 }
                 
-                // Add a severe screen glitch before the reveal
-                NetworkHandler.sendToPlayer(
-                        new GlitchScreenPacket(
-                                0, // EFFECT_STATIC
+                // Whole reveal plays back on the client from a single timeline
+                new EffectTimeline()
+                        // Add a severe screen glitch before the reveal
+                        .at(0, new GlitchScreenPacket(
+                                GlitchScreenPacket.EFFECT_STATIC,
                                 0.7f, // Medium intensity
-                                15), // Quick flash
-                        serverPlayer);
-                
-                // Spawn entity after effects
-                serverPlayer.server.tell(new net.minecraft.server.TickTask(
-                        serverPlayer.server.getTickCount() + 20, () -> {
-                    entityEvent.spawnIterationGlimpse(serverPlayer);
-                    
-                    // Play a scary sound
-                    soundEvent.playDistortedSound(serverPlayer);
-                }));
-                
-                // Send a follow-up message after a short delay
-                serverPlayer.server.tell(new net.minecraft.server.TickTask(
-                        serverPlayer.server.getTickCount() + 100, () -> {
-                    serverPlayer.sendSystemMessage(Component.literal("§4§lDeception detected! §4§oDid you see it in your screenshot? §4§oIt's always there..."));
-                }));
+                                15)) // Quick flash
+                        // Show the entity after effects, along with a scary sound
+                        .atShared(20, entityEvent.createIterationGlimpse(serverPlayer))
+                        .atShared(20, soundEvent.createDistortedSound())
+                        // Follow-up message after a short delay
+                        .at(100, new ChatMessagePacket(Component.literal("§4§lDeception detected! §4§oDid you see it in your screenshot? §4§oIt's always there...")))
+                        .send(serverPlayer);
                 
                 // Mark that we spawned an entity-related event
                 eventsSinceLastEntitySpawn = 0;
@@ -367,7 +349,7 @@ public class MetaStage implements HorrorStage {
                 // Screen corruption
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.9f, // High intensity
                                 40), // 2 seconds
                         serverPlayer);
@@ -402,7 +384,7 @@ public class MetaStage implements HorrorStage {
                 // Brief screen glitch to build tension
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                0, // EFFECT_STATIC
+                                GlitchScreenPacket.EFFECT_STATIC,
                                 0.4f, // Subtle intensity
                                 10), // Brief flash
                         serverPlayer);
@@ -70,7 +70,7 @@ public class ObviousStage implements HorrorStage {
                 // Send a glitch screen effect
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.7f, // More noticeable
                                 40), // 2 seconds 
                         serverPlayer);
@@ -116,7 +116,7 @@ public class ObviousStage implements HorrorStage {
                 // Screen corruption
                 NetworkHandler.sendToPlayer(
                         new GlitchScreenPacket(
-                                2, // EFFECT_CORRUPT
+                                GlitchScreenPacket.EFFECT_CORRUPT,
                                 0.5f, // Medium intensity
                                 30), // 1.5 seconds
                         player);
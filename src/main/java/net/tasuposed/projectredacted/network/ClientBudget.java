@@ -0,0 +1,233 @@
+package net.tasuposed.projectredacted.network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.network.packets.ClientStatusPacket;
+import net.tasuposed.projectredacted.network.packets.EffectTimelinePacket;
+import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
+import net.tasuposed.projectredacted.network.packets.HorrorEffect;
+import net.tasuposed.projectredacted.network.packets.PhantomApparitionPacket;
+import net.tasuposed.projectredacted.network.packets.RenderDistancePacket;
+import net.tasuposed.projectredacted.network.packets.TextureGlitchPacket;
+
+/**
+ * Keeps the latest ClientStatusPacket for each player and tones effects down for clients
+ * that are struggling, so horror pressure never tanks someone's frame rate.
+ * Players that haven't reported (or whose report is stale) get everything at full strength.
+ */
+@Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
+public class ClientBudget {
+    // Below 30 FPS we stop sending the expensive stuff
+    private static final float STRUGGLING_FRAME_MILLIS = 1000.0f / 30.0f;
+    // Below 20 FPS we only send the cheapest effects
+    private static final float CRITICAL_FRAME_MILLIS = 1000.0f / 20.0f;
+    // A client juggling this many effects is busy even if its frame rate looks fine
+    private static final int BUSY_EFFECT_COUNT = 8;
+
+    // Reports arrive every 3 seconds - ignore one that is much older than that
+    private static final long STALE_AFTER_MILLIS = 15_000L;
+
+    /**
+     * How much of the horror a client can take right now
+     */
+    public enum Load {
+        NORMAL,
+        STRUGGLING,
+        CRITICAL
+    }
+
+    private static final Map<UUID, Report> reports = new HashMap<>();
+
+    // Totals for /projectREDACTEDdebug net
+    private static long downgraded = 0;
+    private static long skipped = 0;
+
+    /**
+     * Store a report from the client - called on the server thread
+     */
+    public static void update(ServerPlayer player, ClientStatusPacket status) {
+        reports.put(player.getUUID(), new Report(status, System.currentTimeMillis()));
+    }
+
+    /**
+     * Current load of the player's client, NORMAL if we don't know
+     */
+    public static Load getLoad(ServerPlayer player) {
+        Report report = getReport(player);
+        if (report == null) {
+            return Load.NORMAL;
+        }
+
+        float frameMillis = report.status.getFrameMillis();
+        if (frameMillis >= CRITICAL_FRAME_MILLIS) {
+            return Load.CRITICAL;
+        }
+        if (frameMillis >= STRUGGLING_FRAME_MILLIS || report.status.getActiveEffects() >= BUSY_EFFECT_COUNT) {
+            return Load.STRUGGLING;
+        }
+        return Load.NORMAL;
+    }
+
+    /**
+     * Scale for the player's random event chance - fewer events for struggling clients
+     */
+    public static float getEventRateScale(ServerPlayer player) {
+        switch (getLoad(player)) {
+            case CRITICAL:
+                return 0.5f;
+            case STRUGGLING:
+                return 0.75f;
+            default:
+                return 1.0f;
+        }
+    }
+
+    /**
+     * Fit an effect to what the player's client can handle
+     * @return The effect, a cheaper version of it, or null to skip it entirely
+     */
+    public static HorrorEffect adapt(ServerPlayer player, HorrorEffect effect) {
+        Report report = getReport(player);
+        if (report == null) {
+            return effect;
+        }
+
+        HorrorEffect adapted = adapt(effect, getLoad(player), report.status);
+        if (adapted == null) {
+            skipped++;
+        } else if (adapted != effect) {
+            downgraded++;
+        }
+        return adapted;
+    }
+
+    private static HorrorEffect adapt(HorrorEffect effect, Load load, ClientStatusPacket status) {
+        if (effect instanceof GlitchScreenPacket glitch) {
+            if (!status.hasFeature(ClientStatusPacket.FEATURE_SCREEN_EFFECTS)) {
+                return null;
+            }
+            if (load == Load.CRITICAL) {
+                // Short, faint static only
+                return new GlitchScreenPacket(GlitchScreenPacket.EFFECT_STATIC, glitch.getIntensity() * 0.5f, glitch.getDuration() / 2);
+            }
+            if (load == Load.STRUGGLING && glitch.getEffectType() != GlitchScreenPacket.EFFECT_STATIC) {
+                // Corruption, distortion and inversion all become static
+                return new GlitchScreenPacket(GlitchScreenPacket.EFFECT_STATIC, glitch.getIntensity() * 0.75f, glitch.getDuration());
+            }
+            return effect;
+        }
+
+        if (effect instanceof TextureGlitchPacket) {
+            if (!status.hasFeature(ClientStatusPacket.FEATURE_TEXTURE_GLITCHES) || load == Load.CRITICAL) {
+                return null;
+            }
+            return effect;
+        }
+
+        if (effect instanceof PhantomApparitionPacket) {
+            if (!status.hasFeature(ClientStatusPacket.FEATURE_APPARITIONS)) {
+                return null;
+            }
+            return effect;
+        }
+
+        if (effect instanceof RenderDistancePacket change) {
+            if (load == Load.CRITICAL) {
+                return null;
+            }
+            if (load == Load.STRUGGLING) {
+                // Half as long, and without the static burst on top
+                return new RenderDistancePacket(change.getRenderDistance(), change.getDuration() / 2, false);
+            }
+            return effect;
+        }
+
+        if (effect instanceof EffectTimelinePacket timeline) {
+            if (!status.hasFeature(ClientStatusPacket.FEATURE_TIMELINES)) {
+                return null;
+            }
+
+            // Adapt each step of the sequence, keeping its timing
+            List<EffectTimelinePacket.Entry> entries = new ArrayList<>(timeline.getEntries().size());
+            boolean changed = false;
+            for (EffectTimelinePacket.Entry entry : timeline.getEntries()) {
+                HorrorEffect step = adapt(entry.getEffect(), load, status);
+                if (step != entry.getEffect()) {
+                    changed = true;
+                }
+                if (step != null) {
+                    entries.add(step == entry.getEffect() ? entry : new EffectTimelinePacket.Entry(entry.getTick(), step));
+                }
+            }
+            if (!changed) {
+                return effect;
+            }
+            return entries.isEmpty() ? null : new EffectTimelinePacket(entries);
+        }
+
+        return effect;
+    }
+
+    /**
+     * Lines for the /projectREDACTEDdebug net report
+     */
+    public static List<String> buildReport(MinecraftServer server) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Client budget: " + downgraded + " effects downgraded, " + skipped + " skipped");
+
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            Report report = getReport(player);
+            if (report != null) {
+                lines.add("  " + player.getName().getString() + ": "
+                        + String.format("%.1f", report.status.getFrameMillis()) + " ms/frame, "
+                        + report.status.getActiveEffects() + " active effects, " + getLoad(player));
+            }
+        }
+
+        return lines;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        reports.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        reports.clear();
+        downgraded = 0;
+        skipped = 0;
+    }
+
+    private static Report getReport(ServerPlayer player) {
+        Report report = reports.get(player.getUUID());
+        if (report == null || System.currentTimeMillis() - report.receivedAt > STALE_AFTER_MILLIS) {
+            return null;
+        }
+        return report;
+    }
+
+    /**
+     * A client report and when it arrived
+     */
+    private static class Report {
+        private final ClientStatusPacket status;
+        private final long receivedAt;
+
+        private Report(ClientStatusPacket status, long receivedAt) {
+            this.status = status;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
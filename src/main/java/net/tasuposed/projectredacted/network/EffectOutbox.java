@@ -0,0 +1,134 @@
+package net.tasuposed.projectredacted.network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.network.packets.HorrorEffect;
+import net.tasuposed.projectredacted.network.packets.HorrorEffectPacket;
+
+/**
+ * Per-player outbox for horror effects. Everything queued during a server tick is
+ * flushed at the end of the tick as a single HorrorEffectPacket per player, with
+ * duplicate effects merged, so a player gets at most one mod packet per tick.
+ * Area broadcasts queued through a Recipients set are resolved to players at the flush and
+ * merged into each recipient's outbox - after ClientBudget has fitted them to that
+ * recipient's client - so they ride along in that same frame.
+ */
+@Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
+public class EffectOutbox {
+    // Keyed by UUID so respawning (which replaces the ServerPlayer) doesn't lose queued effects
+    private static final Map<UUID, List<HorrorEffect>> outboxes = new HashMap<>();
+
+    // Keyed by the set itself - an event reuses one Recipients instance for all of its effects
+    private static final Map<Recipients, List<HorrorEffect>> broadcasts = new IdentityHashMap<>();
+
+    /**
+     * Queue an effect for the player, merging it with a duplicate queued earlier this tick
+     */
+    public static void queue(ServerPlayer player, HorrorEffect effect) {
+        add(outboxes.computeIfAbsent(player.getUUID(), key -> new ArrayList<>()), effect);
+    }
+
+    /**
+     * Queue an effect for a set of recipients, merging it the same way
+     */
+    public static void queue(Recipients recipients, HorrorEffect effect) {
+        add(broadcasts.computeIfAbsent(recipients, key -> new ArrayList<>()), effect);
+    }
+
+    private static void add(List<HorrorEffect> outbox, HorrorEffect effect) {
+        for (int i = 0; i < outbox.size(); i++) {
+            HorrorEffect queued = outbox.get(i);
+            if (queued.getOpcode() != effect.getOpcode()) {
+                continue;
+            }
+
+            HorrorEffect merged = queued.mergeWith(effect);
+            if (merged != null) {
+                outbox.set(i, merged);
+                NetworkTelemetry.recordMerge();
+                return;
+            }
+        }
+
+        outbox.add(effect);
+    }
+
+    /**
+     * Flush every outbox at the very end of the server tick
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || (outboxes.isEmpty() && broadcasts.isEmpty())) {
+            return;
+        }
+
+        flush(event.getServer());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        outboxes.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        outboxes.clear();
+        broadcasts.clear();
+    }
+
+    private static void flush(MinecraftServer server) {
+        for (Map.Entry<Recipients, List<HorrorEffect>> entry : broadcasts.entrySet()) {
+            List<ServerPlayer> recipients = entry.getKey().resolve();
+            NetworkTelemetry.recordBroadcast(recipients.size());
+            for (ServerPlayer player : recipients) {
+                List<HorrorEffect> outbox = outboxes.computeIfAbsent(player.getUUID(), key -> new ArrayList<>());
+                for (HorrorEffect effect : entry.getValue()) {
+                    // Fitted to each recipient's client, same as effects sent to them directly
+                    HorrorEffect adapted = ClientBudget.adapt(player, effect);
+                    if (adapted != null) {
+                        add(outbox, adapted);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<UUID, List<HorrorEffect>> entry : outboxes.entrySet()) {
+            ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
+            List<HorrorEffect> effects = entry.getValue();
+            if (player == null || effects.isEmpty()) {
+                continue;
+            }
+
+            for (HorrorEffectPacket frame : split(effects)) {
+                NetworkHandler.sendFrame(frame, player);
+            }
+        }
+
+        outboxes.clear();
+        broadcasts.clear();
+    }
+
+    private static List<HorrorEffectPacket> split(List<HorrorEffect> effects) {
+        List<HorrorEffectPacket> frames = new ArrayList<>(1);
+        // Only a runaway tick would ever need more than one frame
+        for (int start = 0; start < effects.size(); start += HorrorEffectPacket.MAX_EFFECTS_PER_FRAME) {
+            int end = Math.min(effects.size(), start + HorrorEffectPacket.MAX_EFFECTS_PER_FRAME);
+            frames.add(new HorrorEffectPacket(new ArrayList<>(effects.subList(start, end))));
+        }
+        return frames;
+    }
+}
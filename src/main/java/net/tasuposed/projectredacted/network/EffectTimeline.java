@@ -0,0 +1,62 @@
+package net.tasuposed.projectredacted.network;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.tasuposed.projectredacted.config.HorrorConfig;
+import net.tasuposed.projectredacted.network.packets.EffectTimelinePacket;
+import net.tasuposed.projectredacted.network.packets.HorrorEffect;
+
+/**
+ * Builder for scripted client-side sequences. The whole sequence goes out as one
+ * EffectTimelinePacket and is played back by the client, so the server doesn't need
+ * a scheduled task per step.
+ */
+public class EffectTimeline {
+    // Same radius the event classes use for multiplayer sync
+    private static final double MULTIPLAYER_SYNC_RADIUS = 50.0;
+
+    private final List<EffectTimelinePacket.Entry> entries = new ArrayList<>();
+    private final List<EffectTimelinePacket.Entry> shared = new ArrayList<>();
+
+    /**
+     * Add an effect for the target player only
+     */
+    public EffectTimeline at(int tick, HorrorEffect effect) {
+        entries.add(new EffectTimelinePacket.Entry(tick, effect));
+        return this;
+    }
+
+    /**
+     * Add an effect that nearby players also experience when multiplayer sync is enabled
+     */
+    public EffectTimeline atShared(int tick, HorrorEffect effect) {
+        EffectTimelinePacket.Entry entry = new EffectTimelinePacket.Entry(tick, effect);
+        entries.add(entry);
+        shared.add(entry);
+        return this;
+    }
+
+    /**
+     * Send the timeline to the player, and its shared part to nearby players
+     */
+    public void send(ServerPlayer player) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        NetworkHandler.sendToPlayer(build(entries), player);
+
+        if (!shared.isEmpty() && HorrorConfig.SYNC_MULTIPLAYER_EVENTS.get()) {
+            Recipients.nearbyPlayers(player, MULTIPLAYER_SYNC_RADIUS).send(build(shared));
+        }
+    }
+
+    private static EffectTimelinePacket build(List<EffectTimelinePacket.Entry> entries) {
+        List<EffectTimelinePacket.Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingInt(EffectTimelinePacket.Entry::getTick));
+        return new EffectTimelinePacket(sorted);
+    }
+}
@@ -1,27 +1,35 @@
 package net.tasuposed.projectredacted.network;
 
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.network.NetworkDirection;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
+import net.minecraftforge.server.ServerLifecycleHooks;
 import net.tasuposed.projectredacted.ProjectRedacted;
-import net.tasuposed.projectredacted.network.packets.FakeCrashPacket;
-import net.tasuposed.projectredacted.network.packets.GlitchEntityPacket;
-import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
-import net.tasuposed.projectredacted.network.packets.InventoryShiftPacket;
-import net.tasuposed.projectredacted.network.packets.PlaySoundPacket;
-import net.tasuposed.projectredacted.network.packets.RenderDistancePacket;
-import net.tasuposed.projectredacted.network.packets.TextureGlitchPacket;
+import net.tasuposed.projectredacted.network.packets.ClientStatusPacket;
+import net.tasuposed.projectredacted.network.packets.HorrorEffect;
+import net.tasuposed.projectredacted.network.packets.HorrorEffectPacket;
 
 /**
  * Handles registration and sending of network packets
  */
 public class NetworkHandler {
-    private static final String PROTOCOL_VERSION = "1";
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkHandler.class);
+    private static final String PROTOCOL_VERSION = "4";
     private static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(
             new ResourceLocation(ProjectRedacted.MODID, "main"),
             () -> PROTOCOL_VERSION,
@@ -35,59 +43,97 @@ public class NetworkHandler {
      * Register all packets
      */
     public static void registerPackets() {
-        // Register each packet with a unique ID
-        CHANNEL.registerMessage(id++, GlitchEntityPacket.class, 
-                GlitchEntityPacket::encode, 
-                GlitchEntityPacket::decode, 
-                GlitchEntityPacket::handle);
-        
-        CHANNEL.registerMessage(id++, GlitchScreenPacket.class, 
-                GlitchScreenPacket::encode, 
-                GlitchScreenPacket::decode, 
-                GlitchScreenPacket::handle);
+        // All one-shot client effects share a single multiplexed packet
+        CHANNEL.registerMessage(id++, HorrorEffectPacket.class, 
+                HorrorEffectPacket::encode, 
+                HorrorEffectPacket::decode, 
+                HorrorEffectPacket::handle);
         
-        CHANNEL.registerMessage(id++, PlaySoundPacket.class, 
-                PlaySoundPacket::encode, 
-                PlaySoundPacket::decode, 
-                PlaySoundPacket::handle);
-                
-        CHANNEL.registerMessage(id++, TextureGlitchPacket.class, 
-                TextureGlitchPacket::encode, 
-                TextureGlitchPacket::decode, 
-                TextureGlitchPacket::handle);
-                
-        CHANNEL.registerMessage(id++, FakeCrashPacket.class, 
-                FakeCrashPacket::encode, 
-                FakeCrashPacket::decode, 
-                FakeCrashPacket::handle);
-                
-        CHANNEL.registerMessage(id++, InventoryShiftPacket.class, 
-                InventoryShiftPacket::encode, 
-                InventoryShiftPacket::decode, 
-                InventoryShiftPacket::handle);
-                
-        // Register our new render distance packet
-        CHANNEL.registerMessage(id++, RenderDistancePacket.class, 
-                RenderDistancePacket::encode, 
-                RenderDistancePacket::decode, 
-                RenderDistancePacket::handle);
+        // Periodic client load report, so the server can go easy on slow clients
+        CHANNEL.registerMessage(id++, ClientStatusPacket.class,
+                ClientStatusPacket::encode,
+                ClientStatusPacket::decode,
+                ClientStatusPacket::handle,
+                Optional.of(NetworkDirection.PLAY_TO_SERVER));
     }
     
     /**
-     * Send a packet to a specific player
+     * Send a packet to a specific player.
+     * Effects are queued in the player's EffectOutbox and go out together at the end of the tick,
+     * after being fitted to what the player's client reported it can handle.
      */
     public static <T> void sendToPlayer(T packet, ServerPlayer player) {
         if (packet == null || player == null) {
-            System.err.println("[NetworkHandler] Cannot send null packet or to null player");
+            LOGGER.warn("Cannot send null packet or to null player");
             return;
         }
         
+        if (packet instanceof HorrorEffect effect) {
+            queue(player, effect);
+        } else if (packet instanceof HorrorEffectPacket frame) {
+            frame.getEffects().forEach(effect -> queue(player, effect));
+        } else {
+            send(packet, player);
+        }
+    }
+    
+    private static void queue(ServerPlayer player, HorrorEffect effect) {
+        HorrorEffect adapted = ClientBudget.adapt(player, effect);
+        if (adapted != null) {
+            EffectOutbox.queue(player, adapted);
+        }
+    }
+    
+    /**
+     * Send several effects to a player in the same frame
+     */
+    public static void sendEffectsToPlayer(ServerPlayer player, HorrorEffect... effects) {
+        for (HorrorEffect effect : effects) {
+            sendToPlayer(effect, player);
+        }
+    }
+    
+    /**
+     * Send a finished frame right away - used by EffectOutbox when flushing
+     */
+    static void sendFrame(HorrorEffectPacket frame, ServerPlayer player) {
+        send(frame, player);
+    }
+    
+    /**
+     * Send an effect to every player within radius of a position.
+     * Events sending several effects to the same area should build one Recipients set and reuse it.
+     */
+    public static void sendToNear(HorrorEffect effect, ServerLevel level, Vec3 pos, double radius) {
+        Recipients.near(level, pos, radius).send(effect);
+    }
+    
+    /**
+     * Send an effect to every player that has the chunk loaded
+     */
+    public static void sendToTrackingChunk(HorrorEffect effect, LevelChunk chunk) {
+        Recipients.trackingChunk(chunk).send(effect);
+    }
+    
+    /**
+     * Send an effect to every player that can see the entity
+     */
+    public static void sendToTrackingEntity(HorrorEffect effect, Entity entity) {
+        Recipients.trackingEntity(entity).send(effect);
+    }
+    
+    private static void send(Object packet, ServerPlayer player) {
         try {
             CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), packet);
-            System.out.println("[NetworkHandler] Successfully sent packet of type " + packet.getClass().getSimpleName() + " to player " + player.getName().getString());
+            
+            // Frames are encoded synchronously by send, so their size is known by now
+            if (packet instanceof HorrorEffectPacket frame) {
+                NetworkTelemetry.recordFrame(player, frame.getEffects().size(), frame.getEncodedSize());
+            } else {
+                NetworkTelemetry.recordFrame(player, 0, 0);
+            }
         } catch (Exception e) {
-            System.err.println("[NetworkHandler] Error sending packet of type " + packet.getClass().getSimpleName() + " to player " + player.getName().getString() + ": " + e.getMessage());
-            e.printStackTrace();
+            NetworkTelemetry.recordError(packet.getClass().getSimpleName() + " to " + player.getName().getString(), e);
         }
     }
     
@@ -96,15 +142,23 @@ public class NetworkHandler {
      */
     public static void sendToAll(Object packet) {
         if (packet == null) {
-            System.err.println("[NetworkHandler] Cannot send null packet to all players");
+            LOGGER.warn("Cannot send null packet to all players");
+            return;
+        }
+        
+        // Effects go through each player's outbox like any other effect
+        if (packet instanceof HorrorEffect) {
+            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (server != null) {
+                server.getPlayerList().getPlayers().forEach(player -> sendToPlayer(packet, player));
+            }
             return;
         }
         
         try {
             CHANNEL.send(PacketDistributor.ALL.noArg(), packet);
         } catch (Exception e) {
-            System.err.println("[NetworkHandler] Error sending packet to all players: " + e.getMessage());
-            e.printStackTrace();
+            NetworkTelemetry.recordError(packet.getClass().getSimpleName() + " to all players", e);
         }
     }
     
@@ -113,15 +167,14 @@ public class NetworkHandler {
      */
     public static void sendToServer(Object packet) {
         if (packet == null) {
-            System.err.println("[NetworkHandler] Cannot send null packet to server");
+            LOGGER.warn("Cannot send null packet to server");
             return;
         }
         
         try {
             CHANNEL.sendToServer(packet);
         } catch (Exception e) {
-            System.err.println("[NetworkHandler] Error sending packet to server: " + e.getMessage());
-            e.printStackTrace();
+            NetworkTelemetry.recordError(packet.getClass().getSimpleName() + " to server", e);
         }
     }
     
@@ -130,15 +183,23 @@ public class NetworkHandler {
      */
     public static void sendToDimension(Object packet, ResourceKey<Level> dimensionKey) {
         if (packet == null || dimensionKey == null) {
-            System.err.println("[NetworkHandler] Cannot send null packet or to null dimension");
+            LOGGER.warn("Cannot send null packet or to null dimension");
+            return;
+        }
+        
+        if (packet instanceof HorrorEffect) {
+            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            ServerLevel level = server != null ? server.getLevel(dimensionKey) : null;
+            if (level != null) {
+                level.players().forEach(player -> sendToPlayer(packet, player));
+            }
             return;
         }
         
         try {
             CHANNEL.send(PacketDistributor.DIMENSION.with(() -> dimensionKey), packet);
         } catch (Exception e) {
-            System.err.println("[NetworkHandler] Error sending packet to dimension: " + e.getMessage());
-            e.printStackTrace();
+            NetworkTelemetry.recordError(packet.getClass().getSimpleName() + " to dimension " + dimensionKey.location(), e);
         }
     }
 } 
\ No newline at end of file
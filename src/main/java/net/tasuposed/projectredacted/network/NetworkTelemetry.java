@@ -0,0 +1,208 @@
+package net.tasuposed.projectredacted.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.network.packets.HorrorEffect;
+
+/**
+ * Lock-free counters for everything the mod sends over the network.
+ * Recording a packet only costs a few atomic increments - only one in LOG_SAMPLE_RATE
+ * frames (and errors) make it to the log. See /projectREDACTEDdebug net for the report.
+ */
+@Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
+public class NetworkTelemetry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkTelemetry.class);
+
+    // Only every Nth frame / error is logged
+    private static final int LOG_SAMPLE_RATE = 100;
+
+    // Opcodes fit in 4 bits
+    private static final int MAX_TYPES = 16;
+
+    // Totals since server start
+    private static final AtomicLong frames = new AtomicLong();
+    private static final LongAdder bytes = new LongAdder();
+    private static final LongAdder effects = new LongAdder();
+    private static final LongAdder mergedEffects = new LongAdder();
+    private static final LongAdder broadcasts = new LongAdder();
+    private static final LongAdder broadcastRecipients = new LongAdder();
+    private static final AtomicLong errors = new AtomicLong();
+
+    // Per effect type, indexed by opcode
+    private static final AtomicLongArray effectsByType = new AtomicLongArray(MAX_TYPES);
+    private static final AtomicLongArray bytesByType = new AtomicLongArray(MAX_TYPES);
+    private static final AtomicReferenceArray<String> typeNames = new AtomicReferenceArray<>(MAX_TYPES);
+
+    // Per player, only while they're online
+    private static final Map<UUID, PlayerCounters> players = new ConcurrentHashMap<>();
+
+    // Per second - rolled over every 20 server ticks
+    private static final AtomicLong secondFrames = new AtomicLong();
+    private static final AtomicLong secondBytes = new AtomicLong();
+    private static volatile long lastSecondFrames = 0;
+    private static volatile long lastSecondBytes = 0;
+    private static volatile long peakSecondFrames = 0;
+    private static volatile long peakSecondBytes = 0;
+    private static int tickCounter = 0;
+
+    /**
+     * Record a single effect as it is encoded into a frame
+     */
+    public static void recordEffect(HorrorEffect effect, int size) {
+        int opcode = effect.getOpcode();
+        effects.increment();
+        if (opcode >= 0 && opcode < MAX_TYPES) {
+            effectsByType.incrementAndGet(opcode);
+            bytesByType.addAndGet(opcode, size);
+            if (typeNames.get(opcode) == null) {
+                typeNames.compareAndSet(opcode, null, effect.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Record a packet sent to a player
+     */
+    public static void recordFrame(ServerPlayer player, int effectCount, int size) {
+        long count = frames.incrementAndGet();
+        bytes.add(size);
+        secondFrames.incrementAndGet();
+        secondBytes.addAndGet(size);
+
+        PlayerCounters counters = players.get(player.getUUID());
+        if (counters == null) {
+            counters = players.computeIfAbsent(player.getUUID(), key -> new PlayerCounters());
+        }
+        counters.frames.increment();
+        counters.bytes.add(size);
+
+        if (count % LOG_SAMPLE_RATE == 0 && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Frame #{}: {} effects, {} bytes to {}", count, effectCount, size, player.getName().getString());
+        }
+    }
+
+    /**
+     * Record a Recipients set being resolved at the flush. Its effects are counted with
+     * each recipient's own frame, so only the fan-out is tracked here.
+     */
+    public static void recordBroadcast(int recipients) {
+        broadcasts.increment();
+        broadcastRecipients.add(recipients);
+    }
+
+    /**
+     * Record a duplicate effect that was merged away by EffectOutbox
+     */
+    public static void recordMerge() {
+        mergedEffects.increment();
+    }
+
+    /**
+     * Record a failed send. The first failure and then every Nth one are logged with the stack trace.
+     */
+    public static void recordError(String description, Exception e) {
+        long count = errors.incrementAndGet();
+        if (count == 1 || count % LOG_SAMPLE_RATE == 0) {
+            LOGGER.error("Error sending {} ({} send errors so far): ", description, count, e);
+        }
+    }
+
+    /**
+     * Build the /projectREDACTEDdebug net report
+     */
+    public static List<String> buildReport(MinecraftServer server) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Frames: " + frames.get() + ", effects: " + effects.sum() + " (" + mergedEffects.sum()
+                + " merged), bytes: " + bytes.sum() + ", errors: " + errors.get());
+        lines.add("Last second: " + lastSecondFrames + " frames, " + lastSecondBytes + " bytes (peak "
+                + peakSecondFrames + " frames, " + peakSecondBytes + " bytes)");
+        lines.add("Broadcasts: " + broadcasts.sum() + " sets, " + broadcastRecipients.sum() + " recipients");
+
+        for (int opcode = 0; opcode < MAX_TYPES; opcode++) {
+            long count = effectsByType.get(opcode);
+            if (count > 0) {
+                lines.add("  " + typeNames.get(opcode) + ": " + count + " effects, " + bytesByType.get(opcode) + " bytes");
+            }
+        }
+
+        for (Map.Entry<UUID, PlayerCounters> entry : players.entrySet()) {
+            ServerPlayer player = server != null ? server.getPlayerList().getPlayer(entry.getKey()) : null;
+            String name = player != null ? player.getName().getString() : entry.getKey().toString();
+            lines.add("  " + name + ": " + entry.getValue().frames.sum() + " frames, "
+                    + entry.getValue().bytes.sum() + " bytes");
+        }
+
+        return lines;
+    }
+
+    /**
+     * Roll the per-second window over
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || ++tickCounter < 20) {
+            return;
+        }
+        tickCounter = 0;
+
+        lastSecondFrames = secondFrames.getAndSet(0);
+        lastSecondBytes = secondBytes.getAndSet(0);
+        peakSecondFrames = Math.max(peakSecondFrames, lastSecondFrames);
+        peakSecondBytes = Math.max(peakSecondBytes, lastSecondBytes);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        players.remove(event.getEntity().getUUID());
+    }
+
+    /**
+     * Start fresh for the next server
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        frames.set(0);
+        bytes.reset();
+        effects.reset();
+        mergedEffects.reset();
+        broadcasts.reset();
+        broadcastRecipients.reset();
+        errors.set(0);
+        for (int i = 0; i < MAX_TYPES; i++) {
+            effectsByType.set(i, 0);
+            bytesByType.set(i, 0);
+        }
+        players.clear();
+        secondFrames.set(0);
+        secondBytes.set(0);
+        lastSecondFrames = 0;
+        lastSecondBytes = 0;
+        peakSecondFrames = 0;
+        peakSecondBytes = 0;
+        tickCounter = 0;
+    }
+
+    private static class PlayerCounters {
+        private final LongAdder frames = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+    }
+}
@@ -0,0 +1,98 @@
+package net.tasuposed.projectredacted.network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.network.packets.ParticleBatchPacket;
+
+/**
+ * Collects particle emissions per level during a tick and sends each player
+ * a single ParticleBatchPacket at the end of the tick, instead of one vanilla
+ * particle packet per ServerLevel.sendParticles call.
+ */
+@Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
+public class ParticleBatcher {
+    // Same visibility range vanilla uses for particles
+    private static final double MAX_DISTANCE_SQR = 32.0 * 32.0;
+
+    private static final Map<ResourceKey<Level>, List<ParticleBatchPacket.Entry>> pending = new HashMap<>();
+
+    /**
+     * Queue particles for this tick - same arguments as ServerLevel.sendParticles
+     */
+    public static void queue(ServerLevel level, ParticleOptions options, double x, double y, double z,
+                             int count, double xDist, double yDist, double zDist, double speed) {
+        pending.computeIfAbsent(level.dimension(), key -> new ArrayList<>())
+                .add(new ParticleBatchPacket.Entry(options, x, y, z, count,
+                        (float) xDist, (float) yDist, (float) zDist, (float) speed));
+    }
+
+    /**
+     * Flush all queued particles at the end of the server tick.
+     * Runs early so the batches still make it into this tick's EffectOutbox frame.
+     */
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || pending.isEmpty()) {
+            return;
+        }
+
+        flush(event.getServer());
+    }
+
+    /**
+     * Drop anything still queued when the server stops
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        pending.clear();
+    }
+
+    /**
+     * Send every player the particles near them in one packet
+     */
+    private static void flush(MinecraftServer server) {
+        for (Map.Entry<ResourceKey<Level>, List<ParticleBatchPacket.Entry>> levelEntries : pending.entrySet()) {
+            ServerLevel level = server.getLevel(levelEntries.getKey());
+            if (level == null) {
+                continue;
+            }
+
+            List<ParticleBatchPacket.Entry> entries = levelEntries.getValue();
+            for (ServerPlayer player : level.players()) {
+                List<ParticleBatchPacket.Entry> visible = new ArrayList<>();
+
+                for (ParticleBatchPacket.Entry entry : entries) {
+                    if (entry.distanceToSqr(player.getX(), player.getY(), player.getZ()) <= MAX_DISTANCE_SQR) {
+                        visible.add(entry);
+
+                        if (visible.size() >= ParticleBatchPacket.MAX_ENTRIES) {
+                            NetworkHandler.sendToPlayer(new ParticleBatchPacket(visible), player);
+                            visible = new ArrayList<>();
+                        }
+                    }
+                }
+
+                if (!visible.isEmpty()) {
+                    NetworkHandler.sendToPlayer(new ParticleBatchPacket(visible), player);
+                }
+            }
+        }
+
+        pending.clear();
+    }
+}
@@ -0,0 +1,126 @@
+package net.tasuposed.projectredacted.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.Vec3;
+import net.tasuposed.projectredacted.network.packets.HorrorEffect;
+
+/**
+ * A reusable set of recipients for area effects. An event builds one of these once and
+ * sends all of its effects through it. The set is only resolved to players when the tick's
+ * outboxes are flushed, and its effects are merged into each recipient's own outbox - so a
+ * player still gets a single frame per tick, however many sets they belong to.
+ */
+public class Recipients {
+    private final Supplier<List<ServerPlayer>> resolver;
+    private final String description;
+
+    private Recipients(Supplier<List<ServerPlayer>> resolver, String description) {
+        this.resolver = resolver;
+        this.description = description;
+    }
+
+    /**
+     * Everyone within radius of a position
+     */
+    public static Recipients near(ServerLevel level, Vec3 pos, double radius) {
+        return new Recipients(() -> playersNear(level, pos, radius, null), "near " + pos);
+    }
+
+    /**
+     * Everyone within radius of a player, except that player - what the multiplayer sync uses
+     */
+    public static Recipients nearbyPlayers(ServerPlayer player, double radius) {
+        return new Recipients(() -> playersNear(player.serverLevel(), player.position(), radius, player),
+                "players near " + player.getName().getString());
+    }
+
+    /**
+     * Everyone who has the chunk loaded
+     */
+    public static Recipients trackingChunk(LevelChunk chunk) {
+        return new Recipients(() -> ((ServerLevel) chunk.getLevel()).getChunkSource().chunkMap
+                .getPlayers(chunk.getPos(), false),
+                "tracking chunk " + chunk.getPos());
+    }
+
+    /**
+     * Everyone who can see the entity
+     */
+    public static Recipients trackingEntity(Entity entity) {
+        return new Recipients(() -> playersTracking(entity),
+                "tracking " + entity.getType().getDescriptionId());
+    }
+
+    /**
+     * Everyone who can see the player, plus the player
+     */
+    public static Recipients trackingEntityAndSelf(ServerPlayer player) {
+        return new Recipients(() -> {
+            List<ServerPlayer> players = playersTracking(player);
+            players.add(player);
+            return players;
+        }, "tracking " + player.getName().getString() + " and self");
+    }
+
+    private static List<ServerPlayer> playersNear(ServerLevel level, Vec3 pos, double radius, ServerPlayer excluded) {
+        double radiusSqr = radius * radius;
+        List<ServerPlayer> players = new ArrayList<>();
+        for (ServerPlayer player : level.players()) {
+            if (player != excluded && player.distanceToSqr(pos) <= radiusSqr) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    // Same test the chunk map uses when it starts tracking an entity: the player has the
+    // chunk loaded and is within the entity type's tracking range
+    private static List<ServerPlayer> playersTracking(Entity entity) {
+        List<ServerPlayer> players = new ArrayList<>();
+        if (entity.isRemoved() || !(entity.level() instanceof ServerLevel level)) {
+            return players;
+        }
+
+        double range = entity.getType().clientTrackingRange() * 16.0;
+        double rangeSqr = range * range;
+        for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(entity.chunkPosition(), false)) {
+            if (player == entity) {
+                continue;
+            }
+
+            double dx = player.getX() - entity.getX();
+            double dz = player.getZ() - entity.getZ();
+            if (dx * dx + dz * dz <= rangeSqr) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Queue an effect for this tick's frame to these recipients
+     */
+    public Recipients send(HorrorEffect effect) {
+        EffectOutbox.queue(this, effect);
+        return this;
+    }
+
+    /**
+     * The players in the set right now - called once per set when the outboxes flush
+     */
+    List<ServerPlayer> resolve() {
+        return resolver.get();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,40 @@
+package net.tasuposed.projectredacted.network.packets;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Effect that shows a chat message on the client. Used inside timelines so scripted
+ * messages stay in sync with the effects around them.
+ */
+public class ChatMessagePacket implements HorrorEffect {
+    private final Component message;
+
+    public ChatMessagePacket(Component message) {
+        this.message = message;
+    }
+
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_CHAT_MESSAGE;
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        buffer.writeComponent(message);
+    }
+
+    public static ChatMessagePacket read(int headerBits, FriendlyByteBuf buffer) {
+        return new ChatMessagePacket(buffer.readComponent());
+    }
+
+    @Override
+    public void applyOnClient() {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.player != null) {
+            // Shows up exactly like a system message from the server
+            minecraft.player.displayClientMessage(message, false);
+        }
+    }
+}
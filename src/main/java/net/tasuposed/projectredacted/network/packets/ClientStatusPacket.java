@@ -0,0 +1,70 @@
+package net.tasuposed.projectredacted.network.packets;
+
+import java.util.function.Supplier;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import net.tasuposed.projectredacted.network.ClientBudget;
+
+/**
+ * Periodic report from the client about how well it is keeping up with our effects.
+ * The server uses it to tone effects down for clients that are struggling.
+ */
+public class ClientStatusPacket {
+    // Feature flags - which effect handlers the client has running
+    public static final int FEATURE_SCREEN_EFFECTS = 1;
+    public static final int FEATURE_TEXTURE_GLITCHES = 1 << 1;
+    public static final int FEATURE_APPARITIONS = 1 << 2;
+    public static final int FEATURE_TIMELINES = 1 << 3;
+
+    private final float frameMillis;   // Smoothed frame time
+    private final int activeEffects;   // Effects currently running on the client
+    private final int features;        // FEATURE_* flags
+
+    public ClientStatusPacket(float frameMillis, int activeEffects, int features) {
+        this.frameMillis = frameMillis;
+        this.activeEffects = activeEffects;
+        this.features = features;
+    }
+
+    public float getFrameMillis() {
+        return frameMillis;
+    }
+
+    public int getActiveEffects() {
+        return activeEffects;
+    }
+
+    public int getFeatures() {
+        return features;
+    }
+
+    public boolean hasFeature(int feature) {
+        return (features & feature) != 0;
+    }
+
+    public static void encode(ClientStatusPacket packet, FriendlyByteBuf buffer) {
+        // Tenths of a millisecond are plenty of precision for a smoothed frame time
+        buffer.writeVarInt(Math.max(0, Math.round(packet.frameMillis * 10.0f)));
+        buffer.writeVarInt(packet.activeEffects);
+        buffer.writeByte(packet.features);
+    }
+
+    public static ClientStatusPacket decode(FriendlyByteBuf buffer) {
+        float frameMillis = buffer.readVarInt() / 10.0f;
+        int activeEffects = buffer.readVarInt();
+        int features = buffer.readUnsignedByte();
+        return new ClientStatusPacket(frameMillis, activeEffects, features);
+    }
+
+    public static void handle(ClientStatusPacket packet, Supplier<NetworkEvent.Context> ctx) {
+        ServerPlayer sender = ctx.get().getSender();
+        ctx.get().enqueueWork(() -> {
+            if (sender != null) {
+                ClientBudget.update(sender, packet);
+            }
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,113 @@
+package net.tasuposed.projectredacted.network.packets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.tasuposed.projectredacted.client.effects.EffectSequencer;
+
+/**
+ * Effect carrying a whole scripted sequence as (tick offset, effect) entries.
+ * The client plays it back with EffectSequencer, so the server sends a sequence once
+ * instead of driving every step from its own tick.
+ *
+ * The body is length-prefixed, so a timeline holding an effect this client doesn't know
+ * can still be skipped as a whole without misaligning the rest of the frame.
+ */
+public class EffectTimelinePacket implements HorrorEffect {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EffectTimelinePacket.class);
+
+    private final List<Entry> entries;
+
+    /**
+     * @param entries Entries sorted by tick offset
+     */
+    public EffectTimelinePacket(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_EFFECT_TIMELINE;
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        // Build the body first so its length can go in front
+        FriendlyByteBuf body = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            body.writeVarInt(entries.size());
+
+            // Offsets are written as deltas from the previous entry, which keeps them tiny
+            int lastTick = 0;
+            for (Entry entry : entries) {
+                body.writeVarInt(entry.tick - lastTick);
+                HorrorEffectPacket.writeEffect(entry.effect, body);
+                lastTick = entry.tick;
+            }
+
+            buffer.writeVarInt(body.readableBytes());
+            buffer.writeBytes(body);
+        } finally {
+            body.release();
+        }
+    }
+
+    public static EffectTimelinePacket read(int headerBits, FriendlyByteBuf buffer) {
+        // The outer frame carries on after the body whatever happens in here
+        int length = buffer.readVarInt();
+        FriendlyByteBuf body = new FriendlyByteBuf(buffer.readSlice(length));
+
+        int size = Math.min(body.readVarInt(), HorrorEffectPacket.MAX_EFFECTS_PER_FRAME);
+        List<Entry> entries = new ArrayList<>(size);
+
+        int tick = 0;
+        for (int i = 0; i < size; i++) {
+            tick += body.readVarInt();
+            HorrorEffect effect = HorrorEffectPacket.readEffect(body);
+            if (effect == null) {
+                // Half a sequence would play out of context, so drop the whole timeline
+                LOGGER.error("Unknown effect opcode in timeline, dropping all {} entries", size);
+                return new EffectTimelinePacket(new ArrayList<>());
+            }
+            entries.add(new Entry(tick, effect));
+        }
+
+        return new EffectTimelinePacket(entries);
+    }
+
+    @Override
+    public void applyOnClient() {
+        EffectSequencer.init();
+        EffectSequencer.INSTANCE.play(entries);
+    }
+
+    /**
+     * A single effect scheduled some ticks after the timeline starts
+     */
+    public static class Entry {
+        private final int tick;
+        private final HorrorEffect effect;
+
+        public Entry(int tick, HorrorEffect effect) {
+            this.tick = tick;
+            this.effect = effect;
+        }
+
+        public int getTick() {
+            return tick;
+        }
+
+        public HorrorEffect getEffect() {
+            return effect;
+        }
+    }
+}
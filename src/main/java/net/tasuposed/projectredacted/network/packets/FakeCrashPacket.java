@@ -1,56 +1,49 @@
 package net.tasuposed.projectredacted.network.packets;
 
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraftforge.api.distmarker.Dist;
-import net.minecraftforge.fml.DistExecutor;
-import net.minecraftforge.network.NetworkEvent;
 import net.tasuposed.projectredacted.client.effects.ScreenEffectHandler;
 
-import java.util.function.Supplier;
-
 /**
- * Packet to display a fake crash screen with a custom message
+ * Effect to display a fake crash screen with a custom message
  */
-public class FakeCrashPacket {
+public class FakeCrashPacket implements HorrorEffect {
     private final String crashMessage;
     
     public FakeCrashPacket(String crashMessage) {
         this.crashMessage = crashMessage;
     }
     
-    /**
-     * Read packet data from buffer
-     */
-    public static FakeCrashPacket decode(FriendlyByteBuf buf) {
-        return new FakeCrashPacket(buf.readUtf());
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_FAKE_CRASH;
+    }
+    
+    @Override
+    public HorrorEffect mergeWith(HorrorEffect other) {
+        return other instanceof FakeCrashPacket crash && crash.crashMessage.equals(crashMessage) ? this : null;
     }
     
     /**
-     * Write packet data to buffer
+     * Write effect data to buffer
      */
-    public void encode(FriendlyByteBuf buf) {
+    @Override
+    public void write(FriendlyByteBuf buf) {
         buf.writeUtf(crashMessage);
     }
     
     /**
-     * Handle the packet
+     * Read effect data from buffer
      */
-    public static void handle(FakeCrashPacket packet, Supplier<NetworkEvent.Context> ctx) {
-        ctx.get().enqueueWork(() -> {
-            // Only process on client side
-            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handleOnClient(packet));
-        });
-        ctx.get().setPacketHandled(true);
+    public static FakeCrashPacket read(int headerBits, FriendlyByteBuf buf) {
+        return new FakeCrashPacket(buf.readUtf());
     }
     
     /**
      * Client-side handler
      */
-    private static void handleOnClient(FakeCrashPacket packet) {
-        // Get the crash message from the packet
-        String message = packet.crashMessage;
-        
+    @Override
+    public void applyOnClient() {
         // Use the screen effect handler to display a fake crash screen
-        ScreenEffectHandler.displayFakeCrashScreen(message);
+        ScreenEffectHandler.displayFakeCrashScreen(crashMessage);
     }
-} 
\ No newline at end of file
+} 
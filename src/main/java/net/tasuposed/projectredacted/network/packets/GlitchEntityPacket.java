@@ -1,43 +1,46 @@
 package net.tasuposed.projectredacted.network.packets;
 
-import java.util.function.Supplier;
-
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.Entity;
-import net.minecraftforge.api.distmarker.Dist;
-import net.minecraftforge.fml.DistExecutor;
-import net.minecraftforge.network.NetworkEvent;
 
 /**
- * Packet for making an entity appear glitched on the client
+ * Effect for making an entity appear glitched on the client
  */
-public class GlitchEntityPacket {
+public class GlitchEntityPacket implements HorrorEffect {
     private final int entityId;
     
     public GlitchEntityPacket(int entityId) {
         this.entityId = entityId;
     }
     
-    public static void encode(GlitchEntityPacket packet, FriendlyByteBuf buffer) {
-        buffer.writeInt(packet.entityId);
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_GLITCH_ENTITY;
+    }
+    
+    @Override
+    public HorrorEffect mergeWith(HorrorEffect other) {
+        return other instanceof GlitchEntityPacket glitch && glitch.entityId == entityId ? this : null;
     }
     
-    public static GlitchEntityPacket decode(FriendlyByteBuf buffer) {
-        return new GlitchEntityPacket(buffer.readInt());
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        buffer.writeVarInt(entityId);
     }
     
-    public static void handle(GlitchEntityPacket packet, Supplier<NetworkEvent.Context> ctx) {
-        ctx.get().enqueueWork(() -> {
-            // Make sure we're on the client side
-            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handleClient(packet));
-        });
-        ctx.get().setPacketHandled(true);
+    public static GlitchEntityPacket read(int headerBits, FriendlyByteBuf buffer) {
+        return new GlitchEntityPacket(buffer.readVarInt());
     }
     
-    private static void handleClient(GlitchEntityPacket packet) {
+    @Override
+    public void applyOnClient() {
         Minecraft minecraft = Minecraft.getInstance();
-        Entity entity = minecraft.level.getEntity(packet.entityId);
+        if (minecraft.level == null) {
+            return;
+        }
+        
+        Entity entity = minecraft.level.getEntity(entityId);
         
         if (entity != null) {
             // Apply client-side effects to make entity appear glitched
@@ -50,4 +53,4 @@ public class GlitchEntityPacket {
             // that applies custom rendering to this entity
         }
     }
-} 
\ No newline at end of file
+} 
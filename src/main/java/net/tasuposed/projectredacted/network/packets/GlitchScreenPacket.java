@@ -1,15 +1,18 @@
 package net.tasuposed.projectredacted.network.packets;
 
-import java.util.function.Supplier;
-
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraftforge.network.NetworkEvent;
 import net.tasuposed.projectredacted.client.effects.ScreenEffectHandler;
 
 /**
- * Packet that triggers screen glitch effects on the client
+ * Effect that triggers screen glitches on the client
  */
-public class GlitchScreenPacket {
+public class GlitchScreenPacket implements HorrorEffect {
+    // Effect types - shared by the server and ScreenEffectHandler on the client
+    public static final int EFFECT_STATIC = 0;
+    public static final int EFFECT_DISTORTION = 1;
+    public static final int EFFECT_CORRUPT = 2;
+    public static final int EFFECT_INVERT = 3;
+    
     private final int effectType;
     private final float intensity;
     private final int duration;
@@ -20,25 +23,54 @@ public class GlitchScreenPacket {
         this.duration = duration;
     }
     
-    public static void encode(GlitchScreenPacket packet, FriendlyByteBuf buffer) {
-        buffer.writeInt(packet.effectType);
-        buffer.writeFloat(packet.intensity);
-        buffer.writeInt(packet.duration);
+    public int getEffectType() {
+        return effectType;
+    }
+    
+    @Override
+    public HorrorEffect mergeWith(HorrorEffect other) {
+        // Same effect twice in one tick - keep the strongest version of it
+        if (other instanceof GlitchScreenPacket glitch && glitch.effectType == effectType) {
+            return new GlitchScreenPacket(effectType, Math.max(intensity, glitch.intensity),
+                    Math.max(duration, glitch.duration));
+        }
+        return null;
+    }
+    
+    public float getIntensity() {
+        return intensity;
+    }
+    
+    public int getDuration() {
+        return duration;
+    }
+    
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_GLITCH_SCREEN;
+    }
+    
+    @Override
+    public int getHeaderBits() {
+        // Effect types are 0-3, so they fit in the header
+        return effectType;
+    }
+    
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        // The client clamps intensity to 0-1 anyway, so a byte is plenty
+        buffer.writeByte(Math.round(Math.min(1.0f, Math.max(0.0f, intensity)) * 255.0f));
+        buffer.writeVarInt(duration);
     }
     
-    public static GlitchScreenPacket decode(FriendlyByteBuf buffer) {
-        int effectType = buffer.readInt();
-        float intensity = buffer.readFloat();
-        int duration = buffer.readInt();
-        return new GlitchScreenPacket(effectType, intensity, duration);
+    public static GlitchScreenPacket read(int headerBits, FriendlyByteBuf buffer) {
+        float intensity = buffer.readUnsignedByte() / 255.0f;
+        int duration = buffer.readVarInt();
+        return new GlitchScreenPacket(headerBits, intensity, duration);
     }
     
-    public static void handle(GlitchScreenPacket packet, Supplier<NetworkEvent.Context> contextSupplier) {
-        NetworkEvent.Context context = contextSupplier.get();
-        context.enqueueWork(() -> {
-            // Handle on the client side
-            ScreenEffectHandler.addGlitchEffect(packet.effectType, packet.intensity, packet.duration);
-        });
-        context.setPacketHandled(true);
+    @Override
+    public void applyOnClient() {
+        ScreenEffectHandler.addGlitchEffect(effectType, intensity, duration);
     }
-} 
\ No newline at end of file
+} 
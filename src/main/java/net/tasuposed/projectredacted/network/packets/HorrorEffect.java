@@ -0,0 +1,40 @@
+package net.tasuposed.projectredacted.network.packets;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * A single client-side horror effect carried inside a HorrorEffectPacket frame.
+ * Each effect is identified by an opcode and may pack up to 4 bits of data into its header byte.
+ */
+public interface HorrorEffect {
+    /**
+     * Opcode used to pick the decoder on the client, see HorrorEffectPacket
+     */
+    int getOpcode();
+
+    /**
+     * Small value (0-15) packed into the low bits of the header byte
+     */
+    default int getHeaderBits() {
+        return 0;
+    }
+
+    /**
+     * Merge a duplicate effect queued for the same player in the same tick.
+     * Only called with effects that share this effect's opcode.
+     * @return The combined effect, or null if both should be sent
+     */
+    default HorrorEffect mergeWith(HorrorEffect other) {
+        return null;
+    }
+
+    /**
+     * Write the effect body (everything after the header byte)
+     */
+    void write(FriendlyByteBuf buffer);
+
+    /**
+     * Apply the effect. Only ever called on the client thread.
+     */
+    void applyOnClient();
+}
@@ -0,0 +1,147 @@
+package net.tasuposed.projectredacted.network.packets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+import net.tasuposed.projectredacted.network.NetworkTelemetry;
+
+/**
+ * Multiplexed packet carrying one or more horror effects in a single frame.
+ *
+ * Layout: varint effect count, then per effect a header byte (opcode in the high 4 bits,
+ * effect-specific bits in the low 4) followed by the varint-encoded effect body.
+ */
+public class HorrorEffectPacket {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HorrorEffectPacket.class);
+
+    // Opcodes - keep in sync with DECODERS below
+    public static final int OP_GLITCH_ENTITY = 0;
+    public static final int OP_GLITCH_SCREEN = 1;
+    public static final int OP_PLAY_SOUND = 2;
+    public static final int OP_TEXTURE_GLITCH = 3;
+    public static final int OP_FAKE_CRASH = 4;
+    public static final int OP_INVENTORY_SHIFT = 5;
+    public static final int OP_RENDER_DISTANCE = 6;
+    public static final int OP_PHANTOM_APPARITION = 7;
+    public static final int OP_PARTICLE_BATCH = 8;
+    public static final int OP_EFFECT_TIMELINE = 9;
+    public static final int OP_CHAT_MESSAGE = 10;
+
+    // Sanity limit so a corrupt frame can't make us allocate forever
+    public static final int MAX_EFFECTS_PER_FRAME = 256;
+
+    private static final EffectDecoder[] DECODERS = {
+            GlitchEntityPacket::read,
+            GlitchScreenPacket::read,
+            PlaySoundPacket::read,
+            TextureGlitchPacket::read,
+            FakeCrashPacket::read,
+            InventoryShiftPacket::read,
+            RenderDistancePacket::read,
+            PhantomApparitionPacket::read,
+            ParticleBatchPacket::read,
+            EffectTimelinePacket::read,
+            ChatMessagePacket::read
+    };
+
+    private final List<HorrorEffect> effects;
+
+    // Size of the last encoding, for telemetry
+    private int encodedSize = 0;
+
+    public HorrorEffectPacket(List<HorrorEffect> effects) {
+        this.effects = effects;
+    }
+
+    public List<HorrorEffect> getEffects() {
+        return effects;
+    }
+
+    public int getEncodedSize() {
+        return encodedSize;
+    }
+
+    public static void encode(HorrorEffectPacket packet, FriendlyByteBuf buffer) {
+        int frameStart = buffer.writerIndex();
+        buffer.writeVarInt(packet.effects.size());
+        for (HorrorEffect effect : packet.effects) {
+            int effectStart = buffer.writerIndex();
+            writeEffect(effect, buffer);
+            NetworkTelemetry.recordEffect(effect, buffer.writerIndex() - effectStart);
+        }
+        packet.encodedSize = buffer.writerIndex() - frameStart;
+    }
+
+    public static HorrorEffectPacket decode(FriendlyByteBuf buffer) {
+        int count = Math.min(buffer.readVarInt(), MAX_EFFECTS_PER_FRAME);
+        List<HorrorEffect> effects = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            HorrorEffect effect = readEffect(buffer);
+            if (effect == null) {
+                // We can't know the length of an unknown effect, so drop the rest of the frame
+                LOGGER.error("Unknown horror effect opcode, dropping {} remaining effects", count - i);
+                break;
+            }
+            effects.add(effect);
+        }
+
+        return new HorrorEffectPacket(effects);
+    }
+
+    /**
+     * Write a single effect: header byte followed by its body
+     */
+    public static void writeEffect(HorrorEffect effect, FriendlyByteBuf buffer) {
+        buffer.writeByte((effect.getOpcode() << 4) | (effect.getHeaderBits() & 0x0F));
+        effect.write(buffer);
+    }
+
+    /**
+     * Read a single effect written by writeEffect
+     * @return The effect, or null if the opcode is unknown
+     */
+    public static HorrorEffect readEffect(FriendlyByteBuf buffer) {
+        int header = buffer.readUnsignedByte();
+        int opcode = header >> 4;
+        if (opcode >= DECODERS.length) {
+            return null;
+        }
+        return DECODERS[opcode].read(header & 0x0F, buffer);
+    }
+
+    public static void handle(HorrorEffectPacket packet, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            // Make sure we're on the client side
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handleClient(packet));
+        });
+        ctx.get().setPacketHandled(true);
+    }
+
+    private static void handleClient(HorrorEffectPacket packet) {
+        for (HorrorEffect effect : packet.effects) {
+            try {
+                effect.applyOnClient();
+            } catch (Exception e) {
+                // One broken effect shouldn't stop the rest of the frame
+                LOGGER.error("Error applying horror effect {}: ", effect.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * Reads an effect body given the low header bits
+     */
+    @FunctionalInterface
+    private interface EffectDecoder {
+        HorrorEffect read(int headerBits, FriendlyByteBuf buffer);
+    }
+}
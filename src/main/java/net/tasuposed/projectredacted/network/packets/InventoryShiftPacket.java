@@ -4,55 +4,57 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
-import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.api.distmarker.Dist;
-import net.minecraftforge.fml.DistExecutor;
-import net.minecraftforge.network.NetworkEvent;
 
 /**
- * Packet to randomly shift items in the player's inventory
+ * Effect to randomly shift items in the player's inventory
  */
-public class InventoryShiftPacket {
+public class InventoryShiftPacket implements HorrorEffect {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InventoryShiftPacket.class);
     private static final Random random = new Random();
     
     // Empty constructor as we don't need to send any data
     public InventoryShiftPacket() {
     }
     
-    /**
-     * Read packet data from buffer (no data needed)
-     */
-    public static InventoryShiftPacket decode(FriendlyByteBuf buf) {
-        return new InventoryShiftPacket();
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_INVENTORY_SHIFT;
+    }
+    
+    @Override
+    public HorrorEffect mergeWith(HorrorEffect other) {
+        // Shuffling twice in one tick looks exactly like shuffling once
+        return this;
     }
     
     /**
-     * Write packet data to buffer (no data needed)
+     * Write effect data to buffer (no data needed - the header byte is enough)
      */
-    public void encode(FriendlyByteBuf buf) {
+    @Override
+    public void write(FriendlyByteBuf buf) {
         // No data to encode
     }
     
     /**
-     * Handle the packet
+     * Read effect data from buffer (no data needed)
      */
-    public static void handle(InventoryShiftPacket packet, Supplier<NetworkEvent.Context> ctx) {
-        ctx.get().enqueueWork(() -> {
-            // Only process on client side
-            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handleOnClient(packet));
-        });
-        ctx.get().setPacketHandled(true);
+    public static InventoryShiftPacket read(int headerBits, FriendlyByteBuf buf) {
+        return new InventoryShiftPacket();
     }
     
     /**
      * Client-side handler
      */
-    private static void handleOnClient(InventoryShiftPacket packet) {
+    @Override
+    public void applyOnClient() {
         try {
             // Get client and player
             Minecraft mc = Minecraft.getInstance();
@@ -73,11 +75,6 @@ public class InventoryShiftPacket {
                 mainInventoryItems.add(inventory.getItem(i).copy());
             }
             
-            // Log inventory status before shifting
-            System.out.println("[InventoryShift] Starting inventory shift with " + 
-                hotbarItems.size() + " hotbar items and " + 
-                mainInventoryItems.size() + " main inventory items");
-            
             // Shuffle each section separately for more controlled chaos
             Collections.shuffle(hotbarItems, random);
             Collections.shuffle(mainInventoryItems, random);
@@ -95,12 +92,10 @@ public class InventoryShiftPacket {
             // Remove sound code as it's causing compatibility issues
             // We'll rely on visual feedback instead
             
-            // Log success
-            System.out.println("[InventoryShift] Successfully completed inventory shift");
+            LOGGER.debug("Shifted {} hotbar and {} main inventory slots", hotbarItems.size(), mainInventoryItems.size());
         } catch (Exception e) {
             // Log any errors that occur during shifting
-            System.err.println("[InventoryShift] Error shifting inventory: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error shifting inventory: ", e);
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,200 @@
+package net.tasuposed.projectredacted.network.packets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.RandomSource;
+
+/**
+ * Effect carrying every particle emission a player should see in one tick.
+ * Positions are sent as float offsets from the first entry to keep it small.
+ *
+ * The body is length-prefixed, so a particle type this client doesn't know only loses
+ * the rest of the batch, never the effects after it in the frame.
+ */
+public class ParticleBatchPacket implements HorrorEffect {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParticleBatchPacket.class);
+
+    // Split very large batches so a single frame never gets huge
+    public static final int MAX_ENTRIES = 256;
+
+    private final List<Entry> entries;
+
+    public ParticleBatchPacket(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_PARTICLE_BATCH;
+    }
+
+    @Override
+    public HorrorEffect mergeWith(HorrorEffect other) {
+        // Two batches in the same tick just become one longer batch
+        if (other instanceof ParticleBatchPacket batch && entries.size() + batch.entries.size() <= MAX_ENTRIES) {
+            List<Entry> merged = new ArrayList<>(entries.size() + batch.entries.size());
+            merged.addAll(entries);
+            merged.addAll(batch.entries);
+            return new ParticleBatchPacket(merged);
+        }
+        return null;
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        // Build the body first so its length can go in front
+        FriendlyByteBuf body = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            writeBody(body);
+            buffer.writeVarInt(body.readableBytes());
+            buffer.writeBytes(body);
+        } finally {
+            body.release();
+        }
+    }
+
+    private void writeBody(FriendlyByteBuf buffer) {
+        buffer.writeVarInt(entries.size());
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // Everything is relative to the first entry
+        Entry origin = entries.get(0);
+        buffer.writeDouble(origin.x);
+        buffer.writeDouble(origin.y);
+        buffer.writeDouble(origin.z);
+
+        for (Entry entry : entries) {
+            buffer.writeId(BuiltInRegistries.PARTICLE_TYPE, entry.options.getType());
+            buffer.writeFloat((float) (entry.x - origin.x));
+            buffer.writeFloat((float) (entry.y - origin.y));
+            buffer.writeFloat((float) (entry.z - origin.z));
+            buffer.writeVarInt(entry.count);
+            buffer.writeFloat(entry.xDist);
+            buffer.writeFloat(entry.yDist);
+            buffer.writeFloat(entry.zDist);
+            buffer.writeFloat(entry.speed);
+            entry.options.writeToNetwork(buffer);
+        }
+    }
+
+    public static ParticleBatchPacket read(int headerBits, FriendlyByteBuf frame) {
+        // The outer frame carries on after the body whatever happens in here
+        int length = frame.readVarInt();
+        FriendlyByteBuf buffer = new FriendlyByteBuf(frame.readSlice(length));
+
+        int size = Math.min(buffer.readVarInt(), MAX_ENTRIES);
+        List<Entry> entries = new ArrayList<>(size);
+        if (size == 0) {
+            return new ParticleBatchPacket(entries);
+        }
+
+        double originX = buffer.readDouble();
+        double originY = buffer.readDouble();
+        double originZ = buffer.readDouble();
+
+        for (int i = 0; i < size; i++) {
+            ParticleType<?> type = buffer.readById(BuiltInRegistries.PARTICLE_TYPE);
+            if (type == null) {
+                // Can't read the rest of the batch without knowing the particle data layout,
+                // but particles don't depend on each other, so keep what we have
+                LOGGER.warn("Unknown particle type in batch, dropping {} remaining entries", size - i);
+                break;
+            }
+
+            double x = originX + buffer.readFloat();
+            double y = originY + buffer.readFloat();
+            double z = originZ + buffer.readFloat();
+            int count = buffer.readVarInt();
+            float xDist = buffer.readFloat();
+            float yDist = buffer.readFloat();
+            float zDist = buffer.readFloat();
+            float speed = buffer.readFloat();
+            ParticleOptions options = readParticle(type, buffer);
+
+            entries.add(new Entry(options, x, y, z, count, xDist, yDist, zDist, speed));
+        }
+
+        return new ParticleBatchPacket(entries);
+    }
+
+    private static <T extends ParticleOptions> T readParticle(ParticleType<T> type, FriendlyByteBuf buffer) {
+        return type.getDeserializer().fromNetwork(type, buffer);
+    }
+
+    @Override
+    public void applyOnClient() {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) {
+            return;
+        }
+
+        RandomSource random = level.getRandom();
+
+        // Spread the particles the same way vanilla does for ServerLevel.sendParticles
+        for (Entry entry : entries) {
+            if (entry.count == 0) {
+                level.addParticle(entry.options, entry.x, entry.y, entry.z,
+                        entry.speed * entry.xDist, entry.speed * entry.yDist, entry.speed * entry.zDist);
+                continue;
+            }
+
+            for (int i = 0; i < entry.count; i++) {
+                level.addParticle(entry.options,
+                        entry.x + random.nextGaussian() * entry.xDist,
+                        entry.y + random.nextGaussian() * entry.yDist,
+                        entry.z + random.nextGaussian() * entry.zDist,
+                        random.nextGaussian() * entry.speed,
+                        random.nextGaussian() * entry.speed,
+                        random.nextGaussian() * entry.speed);
+            }
+        }
+    }
+
+    /**
+     * A single particle emission, matching the arguments of ServerLevel.sendParticles
+     */
+    public static class Entry {
+        private final ParticleOptions options;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final int count;
+        private final float xDist;
+        private final float yDist;
+        private final float zDist;
+        private final float speed;
+
+        public Entry(ParticleOptions options, double x, double y, double z, int count,
+                     float xDist, float yDist, float zDist, float speed) {
+            this.options = options;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.count = count;
+            this.xDist = xDist;
+            this.yDist = yDist;
+            this.zDist = zDist;
+            this.speed = speed;
+        }
+
+        public double distanceToSqr(double px, double py, double pz) {
+            double dx = x - px;
+            double dy = y - py;
+            double dz = z - pz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
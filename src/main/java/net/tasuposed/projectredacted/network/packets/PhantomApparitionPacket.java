@@ -0,0 +1,77 @@
+package net.tasuposed.projectredacted.network.packets;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
+import net.tasuposed.projectredacted.client.effects.PhantomApparitionHandler;
+
+/**
+ * Effect for showing a purely client-side apparition of a horror entity.
+ * Brief sightings don't need a real server entity - the client just renders
+ * the model for a few seconds and then lets it fade away.
+ */
+public class PhantomApparitionPacket implements HorrorEffect {
+    // Apparition type constants
+    public static final int TYPE_ITERATION = 0;
+    public static final int TYPE_PROTOCOL_37 = 1;
+    public static final int TYPE_SHADOW_FIGURE = 2;
+
+    // Flag constants
+    public static final int FLAG_VANISH_ON_LOOK = 1; // Start fading as soon as the player looks at it
+
+    private final int type;
+    private final Vec3 position;
+    private final Vec3 lookTarget;
+    private final int lifetime;
+    private final int fadeTicks;
+    private final int flags;
+
+    public PhantomApparitionPacket(int type, Vec3 position, Vec3 lookTarget, int lifetime, int fadeTicks, int flags) {
+        this.type = type;
+        this.position = position;
+        this.lookTarget = lookTarget;
+        this.lifetime = lifetime;
+        this.fadeTicks = fadeTicks;
+        this.flags = flags;
+    }
+
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_PHANTOM_APPARITION;
+    }
+
+    @Override
+    public int getHeaderBits() {
+        // Types are 0-2, so they fit in the header
+        return type;
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        buffer.writeByte(flags);
+        buffer.writeDouble(position.x);
+        buffer.writeDouble(position.y);
+        buffer.writeDouble(position.z);
+        // Look target only needs to be roughly right
+        buffer.writeFloat((float) lookTarget.x);
+        buffer.writeFloat((float) lookTarget.y);
+        buffer.writeFloat((float) lookTarget.z);
+        buffer.writeVarInt(lifetime);
+        buffer.writeVarInt(fadeTicks);
+    }
+
+    public static PhantomApparitionPacket read(int headerBits, FriendlyByteBuf buffer) {
+        int type = headerBits;
+        int flags = buffer.readByte();
+        Vec3 position = new Vec3(buffer.readDouble(), buffer.readDouble(), buffer.readDouble());
+        Vec3 lookTarget = new Vec3(buffer.readFloat(), buffer.readFloat(), buffer.readFloat());
+        int lifetime = buffer.readVarInt();
+        int fadeTicks = buffer.readVarInt();
+        return new PhantomApparitionPacket(type, position, lookTarget, lifetime, fadeTicks, flags);
+    }
+
+    @Override
+    public void applyOnClient() {
+        PhantomApparitionHandler.init();
+        PhantomApparitionHandler.INSTANCE.spawnApparition(type, position, lookTarget, lifetime, fadeTicks, flags);
+    }
+}
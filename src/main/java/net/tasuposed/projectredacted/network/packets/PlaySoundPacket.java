@@ -1,21 +1,23 @@
 package net.tasuposed.projectredacted.network.packets;
 
-import java.util.function.Supplier;
-
 import net.minecraft.client.Minecraft;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
-import net.minecraftforge.api.distmarker.Dist;
-import net.minecraftforge.fml.DistExecutor;
-import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraft.util.Mth;
 
 /**
- * Packet that triggers sound playback on the client
+ * Effect that triggers sound playback on the client
  */
-public class PlaySoundPacket {
+public class PlaySoundPacket implements HorrorEffect {
+    // Header bits
+    private static final int FLAG_DISTORTED = 1;
+    private static final int FLAG_LOCATIONAL = 2;
+    
+    private static final SoundSource[] SOURCES = SoundSource.values();
+    
     private final ResourceLocation sound;
     private final SoundSource source;
     private final float volume;
@@ -32,63 +34,91 @@ public class PlaySoundPacket {
         this.locational = locational;
     }
     
-    public static void encode(PlaySoundPacket packet, FriendlyByteBuf buffer) {
-        buffer.writeResourceLocation(packet.sound);
-        buffer.writeEnum(packet.source);
-        buffer.writeFloat(packet.volume);
-        buffer.writeFloat(packet.pitch);
-        buffer.writeBoolean(packet.distorted);
-        buffer.writeBoolean(packet.locational);
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_PLAY_SOUND;
+    }
+    
+    @Override
+    public int getHeaderBits() {
+        return (distorted ? FLAG_DISTORTED : 0) | (locational ? FLAG_LOCATIONAL : 0);
+    }
+    
+    @Override
+    public HorrorEffect mergeWith(HorrorEffect other) {
+        // The same sound started twice in one tick only sounds louder - play it once
+        if (other instanceof PlaySoundPacket same && sound.equals(same.sound) && same.source == source
+                && same.getHeaderBits() == getHeaderBits()) {
+            return new PlaySoundPacket(sound, source, Math.max(volume, same.volume), pitch, distorted, locational);
+        }
+        return null;
+    }
+    
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        // Registered sounds go over as their synced registry ID (+1), 0 means the name follows
+        SoundEvent soundEvent = BuiltInRegistries.SOUND_EVENT.get(sound);
+        int id = soundEvent != null ? BuiltInRegistries.SOUND_EVENT.getId(soundEvent) : -1;
+        buffer.writeVarInt(id + 1);
+        if (id < 0) {
+            buffer.writeResourceLocation(sound);
+        }
+        
+        buffer.writeByte(source.ordinal());
+        // Volume and pitch in hundredths - nothing we play needs more precision
+        buffer.writeVarInt(Math.round(Math.max(0.0f, volume) * 100.0f));
+        buffer.writeVarInt(Math.round(Mth.clamp(pitch, 0.0f, 2.0f) * 100.0f));
     }
     
-    public static PlaySoundPacket decode(FriendlyByteBuf buffer) {
-        ResourceLocation sound = buffer.readResourceLocation();
-        SoundSource source = buffer.readEnum(SoundSource.class);
-        float volume = buffer.readFloat();
-        float pitch = buffer.readFloat();
-        boolean distorted = buffer.readBoolean();
-        boolean locational = buffer.readBoolean();
-        return new PlaySoundPacket(sound, source, volume, pitch, distorted, locational);
+    public static PlaySoundPacket read(int headerBits, FriendlyByteBuf buffer) {
+        int id = buffer.readVarInt() - 1;
+        ResourceLocation sound;
+        if (id < 0) {
+            sound = buffer.readResourceLocation();
+        } else {
+            SoundEvent soundEvent = BuiltInRegistries.SOUND_EVENT.byId(id);
+            sound = soundEvent != null ? soundEvent.getLocation() : null;
+        }
+        
+        SoundSource source = SOURCES[Mth.clamp(buffer.readUnsignedByte(), 0, SOURCES.length - 1)];
+        float volume = buffer.readVarInt() / 100.0f;
+        float pitch = buffer.readVarInt() / 100.0f;
+        return new PlaySoundPacket(sound, source, volume, pitch,
+                (headerBits & FLAG_DISTORTED) != 0, (headerBits & FLAG_LOCATIONAL) != 0);
     }
     
-    public static void handle(PlaySoundPacket packet, Supplier<NetworkEvent.Context> contextSupplier) {
-        NetworkEvent.Context context = contextSupplier.get();
-        context.enqueueWork(() -> {
-            // Make sure we're on the client side
-            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
-                Minecraft minecraft = Minecraft.getInstance();
-                SoundEvent soundEvent = ForgeRegistries.SOUND_EVENTS.getValue(packet.sound);
-                
-                if (soundEvent != null && minecraft.player != null && minecraft.level != null) {
-                    if (packet.locational) {
-                        // Play at player's location
-                        minecraft.level.playLocalSound(
-                            minecraft.player.getX(),
-                            minecraft.player.getY(),
-                            minecraft.player.getZ(),
-                            soundEvent,
-                            packet.source,
-                            packet.volume,
-                            packet.pitch,
-                            false
-                        );
-                    } else {
-                        // Play as ambient sound (not location-based)
-                        // Use the master volume control for non-positional sound
-                        minecraft.level.playLocalSound(
-                            minecraft.player.getX(),
-                            minecraft.player.getY(), 
-                            minecraft.player.getZ(),
-                            soundEvent,
-                            packet.source,
-                            packet.volume,
-                            packet.pitch,
-                            true  // Set to true for ambient sound that doesn't attenuate with distance
-                        );
-                    }
-                }
-            });
-        });
-        context.setPacketHandled(true);
+    @Override
+    public void applyOnClient() {
+        Minecraft minecraft = Minecraft.getInstance();
+        SoundEvent soundEvent = sound != null ? BuiltInRegistries.SOUND_EVENT.get(sound) : null;
+        
+        if (soundEvent != null && minecraft.player != null && minecraft.level != null) {
+            if (locational) {
+                // Play at player's location
+                minecraft.level.playLocalSound(
+                    minecraft.player.getX(),
+                    minecraft.player.getY(),
+                    minecraft.player.getZ(),
+                    soundEvent,
+                    source,
+                    volume,
+                    pitch,
+                    false
+                );
+            } else {
+                // Play as ambient sound (not location-based)
+                // Use the master volume control for non-positional sound
+                minecraft.level.playLocalSound(
+                    minecraft.player.getX(),
+                    minecraft.player.getY(), 
+                    minecraft.player.getZ(),
+                    soundEvent,
+                    source,
+                    volume,
+                    pitch,
+                    true  // Set to true for ambient sound that doesn't attenuate with distance
+                );
+            }
+        }
     }
-} 
\ No newline at end of file
+} 
@@ -1,18 +1,12 @@
 package net.tasuposed.projectredacted.network.packets;
 
-import java.util.function.Supplier;
-
-import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraftforge.api.distmarker.Dist;
-import net.minecraftforge.fml.DistExecutor;
-import net.minecraftforge.network.NetworkEvent;
 import net.tasuposed.projectredacted.client.effects.TextureManager;
 
 /**
- * Packet for creating texture glitch effects on the client
+ * Effect for creating texture glitches on the client
  */
-public class TextureGlitchPacket {
+public class TextureGlitchPacket implements HorrorEffect {
     private final int glitchType;
     private final int duration;
     
@@ -21,37 +15,42 @@ public class TextureGlitchPacket {
         this.duration = duration;
     }
     
-    public static void encode(TextureGlitchPacket packet, FriendlyByteBuf buffer) {
-        buffer.writeInt(packet.glitchType);
-        buffer.writeInt(packet.duration);
+    @Override
+    public int getOpcode() {
+        return HorrorEffectPacket.OP_TEXTURE_GLITCH;
     }
     
-    public static TextureGlitchPacket decode(FriendlyByteBuf buffer) {
-        return new TextureGlitchPacket(
-                buffer.readInt(),
-                buffer.readInt()
-        );
+    @Override
+    public int getHeaderBits() {
+        // Glitch types are 0-2, so they fit in the header
+        return glitchType;
     }
     
-    public static void handle(TextureGlitchPacket packet, Supplier<NetworkEvent.Context> ctx) {
-        ctx.get().enqueueWork(() -> {
-            // Make sure we're on the client side
-            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handleClient(packet));
-        });
-        ctx.get().setPacketHandled(true);
+    @Override
+    public HorrorEffect mergeWith(HorrorEffect other) {
+        if (other instanceof TextureGlitchPacket glitch && glitch.glitchType == glitchType) {
+            return new TextureGlitchPacket(glitchType, Math.max(duration, glitch.duration));
+        }
+        return null;
     }
     
-    private static void handleClient(TextureGlitchPacket packet) {
-        // In a full implementation, we'd have a client-side texture manager
-        // that would apply glitch effects to textures
-        // For now, we'll use a placeholder implementation
-        
+    @Override
+    public void write(FriendlyByteBuf buffer) {
+        buffer.writeVarInt(duration);
+    }
+    
+    public static TextureGlitchPacket read(int headerBits, FriendlyByteBuf buffer) {
+        return new TextureGlitchPacket(headerBits, buffer.readVarInt());
+    }
+    
+    @Override
+    public void applyOnClient() {
         // Initialize texture manager if needed
         if (TextureManager.INSTANCE == null) {
             TextureManager.init();
         }
         
         // Apply the texture glitch effect
-        TextureManager.INSTANCE.applyGlitch(packet.glitchType, packet.duration);
+        TextureManager.INSTANCE.applyGlitch(glitchType, duration);
     }
-} 
\ No newline at end of file
+}
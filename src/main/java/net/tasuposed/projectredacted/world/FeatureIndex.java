@@ -0,0 +1,149 @@
+package net.tasuposed.projectredacted.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.saveddata.SavedData;
+
+/**
+ * Where the mod's lore fragments and portal ruins are, so gameplay code can ask
+ * instead of looking for marker blocks.
+ *
+ * In The Void the fragments follow from the platform layout and are worked out on demand.
+ * Everywhere else features are recorded as they're built and saved with the level,
+ * indexed by every chunk their bounding box touches.
+ */
+public class FeatureIndex {
+    private static final String DATA_NAME = "projectredacted_features";
+
+    /**
+     * Kinds of feature
+     */
+    public enum Type {
+        LORE_FRAGMENT,
+        PORTAL_RUIN
+    }
+
+    /**
+     * The feature covering a position, or null if there isn't one
+     */
+    public static Feature getFeatureAt(ServerLevel level, BlockPos pos) {
+        if (level.getChunkSource().getGenerator() instanceof TheVoidChunkGenerator generator) {
+            return generator.getLoreFragmentAt(level.getChunkSource().randomState(), pos);
+        }
+        return getData(level).getAt(pos);
+    }
+
+    /**
+     * Record a feature that has just been built
+     */
+    public static void add(ServerLevel level, Type type, BoundingBox box) {
+        getData(level).add(new Feature(type, box));
+    }
+
+    private static FeatureData getData(ServerLevel level) {
+        // Stored per dimension
+        return level.getDataStorage().computeIfAbsent(FeatureData::load, FeatureData::new, DATA_NAME);
+    }
+
+    /**
+     * A single feature and the space it takes up
+     */
+    public static class Feature {
+        private final Type type;
+        private final BoundingBox box;
+
+        public Feature(Type type, BoundingBox box) {
+            this.type = type;
+            this.box = box;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public BoundingBox getBox() {
+            return box;
+        }
+    }
+
+    /**
+     * SavedData holding the recorded features of one level
+     */
+    public static class FeatureData extends SavedData {
+        private final List<Feature> features = new ArrayList<>();
+        private final Map<Long, List<Feature>> byChunk = new HashMap<>();
+
+        public FeatureData() {
+        }
+
+        public static FeatureData load(CompoundTag tag) {
+            FeatureData data = new FeatureData();
+
+            // Each feature is its type followed by the corners of its box
+            ListTag list = tag.getList("Features", Tag.TAG_INT_ARRAY);
+            for (int i = 0; i < list.size(); i++) {
+                int[] packed = list.getIntArray(i);
+                if (packed.length == 7 && packed[0] >= 0 && packed[0] < Type.values().length) {
+                    data.index(new Feature(Type.values()[packed[0]],
+                            new BoundingBox(packed[1], packed[2], packed[3], packed[4], packed[5], packed[6])));
+                }
+            }
+
+            return data;
+        }
+
+        @Override
+        public CompoundTag save(CompoundTag tag) {
+            ListTag list = new ListTag();
+            for (Feature feature : features) {
+                BoundingBox box = feature.box;
+                list.add(new IntArrayTag(new int[] {
+                    feature.type.ordinal(),
+                    box.minX(), box.minY(), box.minZ(),
+                    box.maxX(), box.maxY(), box.maxZ()
+                }));
+            }
+            tag.put("Features", list);
+            return tag;
+        }
+
+        private void add(Feature feature) {
+            index(feature);
+            setDirty();
+        }
+
+        private void index(Feature feature) {
+            features.add(feature);
+
+            BoundingBox box = feature.box;
+            for (int chunkX = box.minX() >> 4; chunkX <= box.maxX() >> 4; chunkX++) {
+                for (int chunkZ = box.minZ() >> 4; chunkZ <= box.maxZ() >> 4; chunkZ++) {
+                    byChunk.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new ArrayList<>(1)).add(feature);
+                }
+            }
+        }
+
+        private Feature getAt(BlockPos pos) {
+            List<Feature> inChunk = byChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (inChunk != null) {
+                for (Feature feature : inChunk) {
+                    if (feature.box.isInside(pos)) {
+                        return feature;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package net.tasuposed.projectredacted.world;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.horror.DeadlineQueue;
+
+/**
+ * Loads the chunks around a teleport destination before moving the player there.
+ *
+ * Calling changeDimension straight away makes the server load (and in The Void, generate) the
+ * destination chunks synchronously in that tick. Here each request first adds a chunk ticket and
+ * waits for the chunk future, and only then moves the player. Starting and finishing teleports are
+ * both budgeted per tick, so sending a whole server somewhere at once is spread out instead of
+ * stalling.
+ */
+@Mod.EventBusSubscriber(modid = ProjectRedacted.MODID)
+public class TeleportPipeline {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TeleportPipeline.class);
+
+    // Each request gets its own ticket value so two players heading for the same chunk don't share one
+    private static final TicketType<Long> TELEPORT_TICKET = TicketType.create(
+            ProjectRedacted.MODID + "_teleport", Long::compare, 600);
+
+    // Ticket radius in chunks around the destination
+    private static final int TICKET_RADIUS = 2;
+
+    private static final int MAX_STARTS_PER_TICK = 4;
+    private static final int MAX_ARRIVALS_PER_TICK = 2;
+
+    // Move the player anyway if loading takes longer than this - better than leaving them stuck
+    private static final int MAX_WAIT_TICKS = 200;
+
+    // Keep the chunks loaded a little longer, until the player's own ticket has taken over
+    private static final int RELEASE_DELAY = 40;
+
+    private static final Deque<Request> waiting = new ArrayDeque<>();
+    private static final List<Request> warming = new ArrayList<>();
+    private static final Map<UUID, Request> byPlayer = new HashMap<>();
+
+    private static long requestCount = 0;
+
+    /**
+     * Move a player once the chunks at the destination are loaded.
+     * A newer request for the same player replaces one that hasn't happened yet.
+     * @param move Does the actual teleport - run on the server thread, only if the player is still online
+     */
+    public static void teleport(ServerPlayer player, ServerLevel destination, BlockPos target, Runnable move) {
+        Request request = new Request(player, destination, new ChunkPos(target), requestCount++, move);
+
+        Request previous = byPlayer.put(player.getUUID(), request);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        waiting.add(request);
+    }
+
+    /**
+     * Whether a teleport is waiting for this player. A request left over from before
+     * they relogged doesn't count - it belongs to the old player object and won't move anyone.
+     */
+    public static boolean isPending(ServerPlayer player) {
+        Request request = byPlayer.get(player.getUUID());
+        return request != null && request.player == player;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        int tick = event.getServer().getTickCount();
+
+        // Start loading a few destinations
+        int started = 0;
+        while (started < MAX_STARTS_PER_TICK && !waiting.isEmpty()) {
+            Request request = waiting.poll();
+            if (request.cancelled) {
+                continue;
+            }
+            request.start(tick);
+            warming.add(request);
+            started++;
+        }
+
+        // Move players whose destination is ready, oldest first
+        int arrivals = 0;
+        Iterator<Request> iterator = warming.iterator();
+        while (iterator.hasNext() && arrivals < MAX_ARRIVALS_PER_TICK) {
+            Request request = iterator.next();
+            if (request.cancelled) {
+                iterator.remove();
+                continue;
+            }
+
+            int waited = tick - request.startTick;
+            if (!request.ready && waited < MAX_WAIT_TICKS) {
+                continue;
+            }
+
+            iterator.remove();
+            byPlayer.remove(request.player.getUUID(), request);
+
+            if (!request.ready) {
+                LOGGER.warn("Destination for {} still loading after {} ticks, teleporting anyway",
+                        request.player.getName().getString(), waited);
+            }
+
+            if (!request.player.hasDisconnected()) {
+                try {
+                    request.move.run();
+                } catch (Exception e) {
+                    LOGGER.error("Error teleporting {}: ", request.player.getName().getString(), e);
+                }
+                arrivals++;
+            }
+
+            DeadlineQueue.schedule(RELEASE_DELAY, request::release);
+        }
+    }
+
+    /**
+     * Drop everything when the server stops - the tickets go with the levels
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        waiting.clear();
+        warming.clear();
+        byPlayer.clear();
+    }
+
+    /**
+     * One player waiting to be moved
+     */
+    private static class Request {
+        private final ServerPlayer player;
+        private final ServerLevel destination;
+        private final ChunkPos chunkPos;
+        private final long ticketId;
+        private final Runnable move;
+
+        private int startTick;
+        private boolean ticketed = false;
+        private volatile boolean ready = false;
+        private boolean cancelled = false;
+
+        private Request(ServerPlayer player, ServerLevel destination, ChunkPos chunkPos, long ticketId, Runnable move) {
+            this.player = player;
+            this.destination = destination;
+            this.chunkPos = chunkPos;
+            this.ticketId = ticketId;
+            this.move = move;
+        }
+
+        /**
+         * Add the ticket and wait for the center chunk to be fully loaded
+         */
+        private void start(int tick) {
+            this.startTick = tick;
+            destination.getChunkSource().addRegionTicket(TELEPORT_TICKET, chunkPos, TICKET_RADIUS, ticketId);
+            ticketed = true;
+
+            // A failed load just means the move loads it the old way
+            destination.getChunkSource().getChunkFuture(chunkPos.x, chunkPos.z, ChunkStatus.FULL, true)
+                    .whenComplete((result, error) -> ready = true);
+        }
+
+        private void cancel() {
+            cancelled = true;
+            release();
+        }
+
+        private void release() {
+            if (ticketed) {
+                destination.getChunkSource().removeRegionTicket(TELEPORT_TICKET, chunkPos, TICKET_RADIUS, ticketId);
+                ticketed = false;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package net.tasuposed.projectredacted.world;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -15,9 +16,9 @@ import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.WorldGenRegion;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.LevelHeightAccessor;
 import net.minecraft.world.level.NoiseColumn;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.BiomeGenerationSettings;
@@ -28,11 +29,14 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.GenerationStep.Carving;
 import net.minecraft.world.level.levelgen.GenerationStep.Decoration;
+import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.Heightmap.Types;
 import net.minecraft.world.level.levelgen.RandomState;
 import net.minecraft.world.level.levelgen.blending.Blender;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.StructureSet;
 import net.minecraft.world.level.levelgen.structure.placement.ConcentricRingsStructurePlacement;
@@ -59,6 +63,7 @@ public class TheVoidChunkGenerator extends ChunkGenerator {
     private static final BlockState DEEPSLATE = Blocks.DEEPSLATE.defaultBlockState();
     private static final BlockState SOUL_SOIL = Blocks.SOUL_SOIL.defaultBlockState();
     private static final BlockState SOUL_SAND = Blocks.SOUL_SAND.defaultBlockState();
+    private static final BlockState SOUL_LANTERN = Blocks.SOUL_LANTERN.defaultBlockState();
     
     public TheVoidChunkGenerator(BiomeSource biomeSource) {
         super(biomeSource);
@@ -72,58 +77,196 @@ public class TheVoidChunkGenerator extends ChunkGenerator {
     
     @Override
     public void buildSurface(WorldGenRegion level, StructureManager structureManager, RandomState randomState, ChunkAccess chunk) {
-        // Create the surface of The Void - scattered platforms with occasional structures
-        RandomSource random = RandomSource.create(level.getSeed() + chunk.getPos().x * 13L + chunk.getPos().z * 7L);
+        // Platforms are already filled in by fillFromNoise
+    }
+    
+    /**
+     * Fill in every part of every platform that reaches into this chunk.
+     * Blocks go straight into the chunk sections, so there's no BlockPos per block.
+     */
+    private void fillPlatforms(ChunkAccess chunk, RandomState randomState) {
+        ChunkPos chunkPos = chunk.getPos();
+        int minX = chunkPos.getMinBlockX();
+        int minZ = chunkPos.getMinBlockZ();
+        int maxX = chunkPos.getMaxBlockX();
+        int maxZ = chunkPos.getMaxBlockZ();
+        
+        List<VoidPlatformLayout.Platform> platforms = VoidPlatformLayout.platformsIn(randomState, minX, minZ, maxX, maxZ);
+        if (platforms.isEmpty()) {
+            return;
+        }
+        
+        Heightmap oceanFloor = chunk.getOrCreateHeightmapUnprimed(Types.OCEAN_FLOOR_WG);
+        Heightmap worldSurface = chunk.getOrCreateHeightmapUnprimed(Types.WORLD_SURFACE_WG);
+        
+        for (VoidPlatformLayout.Platform platform : platforms) {
+            int top = platform.getY();
+            int fromX = Math.max(minX, platform.getCenterX() - platform.getRadius());
+            int toX = Math.min(maxX, platform.getCenterX() + platform.getRadius());
+            int fromZ = Math.max(minZ, platform.getCenterZ() - platform.getRadius());
+            int toZ = Math.min(maxZ, platform.getCenterZ() + platform.getRadius());
+            
+            for (int x = fromX; x <= toX; x++) {
+                for (int z = fromZ; z <= toZ; z++) {
+                    if (!platform.contains(x, z)) {
+                        continue;
+                    }
+                    
+                    for (int y = top - VoidPlatformLayout.DEPTH + 1; y <= top + 1; y++) {
+                        BlockState state = getBlockAt(platform, x, y, z);
+                        if (state != null) {
+                            setBlock(chunk, x, y, z, state, oceanFloor, worldSurface);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * The block a platform puts at a position in one of its columns, or null for none.
+     * Shared by generation and the column queries so they always agree.
+     */
+    private BlockState getBlockAt(VoidPlatformLayout.Platform platform, int x, int y, int z) {
+        int depth = platform.getY() - y;
+        
+        // Rare lore fragment - a patch of crying obsidian with a soul lantern in the middle.
+        // FeatureIndex finds it from the layout, so nothing needs to mark it.
+        BoundingBox loreBox = platform.getLoreBox();
+        if (loreBox != null && loreBox.isInside(x, y, z)) {
+            if (depth == 0) {
+                return CRYING_OBSIDIAN;
+            }
+            if (x == platform.getCenterX() && z == platform.getCenterZ()) {
+                return SOUL_LANTERN;
+            }
+            if (depth == -1) {
+                return null;
+            }
+        }
+        
+        // Calculate depth - deeper blocks are more stable/solid
+        if (depth >= 0 && depth < VoidPlatformLayout.DEPTH) {
+            return getPlatformBlock(platform.noise(x, y, z), depth);
+        }
+        
+        if (depth == -1) {
+            // Rarely add a decorative element
+            if (platform.noise(x, y, z) < 0.05f) {
+                return getDecorationBlock(platform.noise(x, y + 1, z));
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * The lore fragment covering a position, worked out from the seed alone
+     * @return The fragment, or null if there isn't one there
+     */
+    public FeatureIndex.Feature getLoreFragmentAt(RandomState randomState, BlockPos pos) {
+        for (VoidPlatformLayout.Platform platform : VoidPlatformLayout.platformsIn(randomState, pos.getX(), pos.getZ(), pos.getX(), pos.getZ())) {
+            BoundingBox loreBox = platform.getLoreBox();
+            if (loreBox != null && loreBox.isInside(pos)) {
+                return new FeatureIndex.Feature(FeatureIndex.Type.LORE_FRAGMENT, loreBox);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Every block in a column from VoidPlatformLayout.LOWEST_BLOCK up, worked out from the seed alone.
+     * @return The column, or null if no platform covers it
+     */
+    private BlockState[] buildColumn(int x, int z, RandomState randomState) {
+        BlockState[] column = null;
         
-        // Only generate platforms occasionally
-        if (random.nextFloat() < 0.1f) {
-            int centerX = chunk.getPos().getMinBlockX() + random.nextInt(16);
-            int centerZ = chunk.getPos().getMinBlockZ() + random.nextInt(16);
-            int y = 40 + random.nextInt(30); // Variable platform height
+        for (VoidPlatformLayout.Platform platform : VoidPlatformLayout.platformsIn(randomState, x, z, x, z)) {
+            if (!platform.contains(x, z)) {
+                continue;
+            }
             
-            // Generate a small platform
-            generatePlatform(chunk, random, centerX, y, centerZ);
+            if (column == null) {
+                column = new BlockState[VoidPlatformLayout.HIGHEST_BLOCK - VoidPlatformLayout.LOWEST_BLOCK + 1];
+                Arrays.fill(column, AIR);
+            }
             
-            // Rare chance to generate a lore fragment
-            if (random.nextFloat() < 0.1f) {
-                // Mark position for structure generation in populate phase
-                chunk.setBlockState(new BlockPos(centerX, y + 1, centerZ), Blocks.STRUCTURE_BLOCK.defaultBlockState(), false);
+            for (int y = platform.getY() - VoidPlatformLayout.DEPTH + 1; y <= platform.getY() + 1; y++) {
+                BlockState state = getBlockAt(platform, x, y, z);
+                if (state != null) {
+                    column[y - VoidPlatformLayout.LOWEST_BLOCK] = state;
+                }
             }
         }
+        
+        return column;
     }
     
-    private void generatePlatform(ChunkAccess chunk, RandomSource random, int centerX, int y, int centerZ) {
-        int radius = 3 + random.nextInt(5); // Random platform size
+    /**
+     * Somewhere to stand near the given column, found from the seed without generating or loading anything
+     * @param range How far from x, z to look for a platform
+     * @return The position to stand at, or null if no platform is in range
+     */
+    public BlockPos findArrivalPos(RandomState randomState, int x, int z, int range) {
+        // Closest platform to the requested spot
+        VoidPlatformLayout.Platform closest = null;
+        long closestDistance = Long.MAX_VALUE;
+        for (VoidPlatformLayout.Platform platform : VoidPlatformLayout.platformsIn(randomState, x - range, z - range, x + range, z + range)) {
+            long dx = platform.getCenterX() - x;
+            long dz = platform.getCenterZ() - z;
+            if (dx * dx + dz * dz < closestDistance) {
+                closestDistance = dx * dx + dz * dz;
+                closest = platform;
+            }
+        }
+        
+        if (closest == null) {
+            return null;
+        }
         
-        // Generate the platform
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                if (x*x + z*z <= radius*radius) {
-                    BlockPos pos = new BlockPos(centerX + x, y, centerZ + z);
+        // Start from the center and work outwards, skipping spots with a decoration on top
+        for (int ring = 0; ring < closest.getRadius(); ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) {
+                        continue;
+                    }
                     
-                    // Calculate depth - deeper blocks are more stable/solid
-                    for (int depth = 0; depth < 3; depth++) {
-                        BlockPos depthPos = pos.below(depth);
-                        
-                        if (isInChunk(chunk, depthPos)) {
-                            BlockState platformState = getPlatformBlock(random, depth);
-                            chunk.setBlockState(depthPos, platformState, false);
-                        }
+                    int columnX = closest.getCenterX() + dx;
+                    int columnZ = closest.getCenterZ() + dz;
+                    BlockState[] column = buildColumn(columnX, columnZ, randomState);
+                    if (column == null) {
+                        continue;
                     }
                     
-                    // Rarely add a decorative element
-                    if (random.nextFloat() < 0.05f && isInChunk(chunk, pos.above())) {
-                        BlockState decoration = getDecorationBlock(random);
-                        chunk.setBlockState(pos.above(), decoration, false);
+                    int top = column.length - 1;
+                    while (top >= 0 && column[top].isAir()) {
+                        top--;
+                    }
+                    
+                    if (top >= 0 && column[top].isSolid()) {
+                        return new BlockPos(columnX, VoidPlatformLayout.LOWEST_BLOCK + top + 1, columnZ);
                     }
                 }
             }
         }
+        
+        return null;
     }
     
-    private BlockState getPlatformBlock(RandomSource random, int depth) {
-        float val = random.nextFloat();
+    private static void setBlock(ChunkAccess chunk, int x, int y, int z, BlockState state,
+            Heightmap oceanFloor, Heightmap worldSurface) {
+        if (chunk.isOutsideBuildHeight(y)) {
+            return;
+        }
         
+        LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+        section.setBlockState(x & 15, y & 15, z & 15, state, false);
+        oceanFloor.update(x & 15, y, z & 15, state);
+        worldSurface.update(x & 15, y, z & 15, state);
+    }
+    
+    private BlockState getPlatformBlock(float val, int depth) {
         if (depth == 0) {
             // Surface layer
             if (val < 0.7f) return DEEPSLATE;
@@ -139,8 +282,7 @@ public class TheVoidChunkGenerator extends ChunkGenerator {
         }
     }
     
-    private BlockState getDecorationBlock(RandomSource random) {
-        float val = random.nextFloat();
+    private BlockState getDecorationBlock(float val) {
         if (val < 0.3f) return Blocks.SOUL_FIRE.defaultBlockState();
         else if (val < 0.6f) return Blocks.SCULK.defaultBlockState();
         else if (val < 0.85f) return Blocks.CHAIN.defaultBlockState();
@@ -150,12 +292,24 @@ public class TheVoidChunkGenerator extends ChunkGenerator {
     @Override
     public CompletableFuture<ChunkAccess> fillFromNoise(Executor executor, Blender blender, RandomState randomState, 
             StructureManager structureManager, ChunkAccess chunk) {
-        // Mostly empty world, handled by buildSurface
-        return CompletableFuture.completedFuture(chunk);
+        // Mostly empty world - only the platforms need filling, and chunks don't depend on each other
+        return CompletableFuture.supplyAsync(() -> {
+            fillPlatforms(chunk, randomState);
+            return chunk;
+        }, executor);
     }
     
     @Override
     public int getBaseHeight(int x, int z, Types heightmapType, LevelHeightAccessor level, RandomState randomState) {
+        BlockState[] column = buildColumn(x, z, randomState);
+        if (column != null) {
+            // Same rule as the real heightmap - one above the highest block it counts
+            for (int i = column.length - 1; i >= 0; i--) {
+                if (heightmapType.isOpaque().test(column[i])) {
+                    return VoidPlatformLayout.LOWEST_BLOCK + i + 1;
+                }
+            }
+        }
         return level.getMinBuildHeight();
     }
     
@@ -166,7 +320,11 @@ public class TheVoidChunkGenerator extends ChunkGenerator {
     @Override
     public NoiseColumn getBaseColumn(int x, int z, LevelHeightAccessor heightAccessor, RandomState randomState) {
         // Mostly void with occasional platforms
-        return new NoiseColumn(heightAccessor.getMinBuildHeight(), new BlockState[0]);
+        BlockState[] column = buildColumn(x, z, randomState);
+        if (column == null) {
+            return new NoiseColumn(heightAccessor.getMinBuildHeight(), new BlockState[0]);
+        }
+        return new NoiseColumn(VoidPlatformLayout.LOWEST_BLOCK, column);
     }
     
     @Override
@@ -207,13 +365,4 @@ public class TheVoidChunkGenerator extends ChunkGenerator {
         // No debug info for The Void
     }
 
-    // Add a helper method to check if a position is within the chunk
-    private boolean isInChunk(ChunkAccess chunk, BlockPos pos) {
-        int chunkX = chunk.getPos().x;
-        int chunkZ = chunk.getPos().z;
-        int blockX = pos.getX() >> 4;  // Divide by 16 to get chunk coordinate
-        int blockZ = pos.getZ() >> 4;
-        
-        return blockX == chunkX && blockZ == chunkZ;
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
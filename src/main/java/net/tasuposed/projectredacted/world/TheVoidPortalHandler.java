@@ -20,6 +20,9 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
@@ -30,6 +33,7 @@ import net.tasuposed.projectredacted.horror.HorrorManager;
 import net.tasuposed.projectredacted.horror.PlayerHorrorState;
 import net.tasuposed.projectredacted.network.packets.GlitchScreenPacket;
 import net.tasuposed.projectredacted.network.NetworkHandler;
+import net.tasuposed.projectredacted.network.ParticleBatcher;
 import net.tasuposed.projectredacted.network.packets.PlaySoundPacket;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.tasuposed.projectredacted.horror.events.EndgameSequence;
@@ -98,13 +102,13 @@ public class TheVoidPortalHandler {
         // 1. Crying Obsidian
         // 2. Ancient Debris
         // 3. An End Portal Frame
-        // 4. A specially configured structure block
+        // 4. Any block of a portal ruin or lore fragment
         
-        return level.getBlockState(pos).is(Blocks.CRYING_OBSIDIAN) || 
-               level.getBlockState(pos).is(Blocks.ANCIENT_DEBRIS) ||
-               level.getBlockState(pos).is(Blocks.END_PORTAL_FRAME) ||
-               (level.getBlockState(pos).is(Blocks.STRUCTURE_BLOCK) && 
-                !level.getBlockState(pos.above()).is(Blocks.AIR));
+        BlockState state = level.getBlockState(pos);
+        return state.is(Blocks.CRYING_OBSIDIAN) || 
+               state.is(Blocks.ANCIENT_DEBRIS) ||
+               state.is(Blocks.END_PORTAL_FRAME) ||
+               (level instanceof ServerLevel serverLevel && FeatureIndex.getFeatureAt(serverLevel, pos) != null);
     }
     
     /**
@@ -128,13 +132,13 @@ public class TheVoidPortalHandler {
         // Create portal effects
         ServerLevel level = (ServerLevel)player.level();
         
-        // Particle and sound effects
+        // Particle and sound effects - queued so the whole burst goes out as one packet
         for (int i = 0; i < 50; i++) {
             double offsetX = RANDOM.nextDouble() * 2.0 - 1.0;
             double offsetY = RANDOM.nextDouble() * 2.0 - 1.0;
             double offsetZ = RANDOM.nextDouble() * 2.0 - 1.0;
             
-            level.sendParticles(
+            ParticleBatcher.queue(level,
                     ParticleTypes.REVERSE_PORTAL,
                     pos.getX() + 0.5 + offsetX * 0.5,
                     pos.getY() + 0.5 + offsetY * 0.5,
@@ -147,7 +151,7 @@ public class TheVoidPortalHandler {
         
         // Send screen effects to the player
         NetworkHandler.sendToPlayer(
-                new GlitchScreenPacket(2, 0.9f, 60), // Strong corruption for 3 seconds
+                new GlitchScreenPacket(GlitchScreenPacket.EFFECT_CORRUPT, 0.9f, 60), // Strong corruption for 3 seconds
                 player);
         
         NetworkHandler.sendToPlayer(
@@ -166,17 +170,17 @@ public class TheVoidPortalHandler {
      * Teleport a player to The Void dimension
      */
     public static void teleportPlayerToVoid(ServerPlayer player, BlockPos sourcePos) {
+        // Already on the way somewhere - wait for that teleport to finish
+        if (TeleportPipeline.isPending(player)) {
+            return;
+        }
+        
         if (player.level().dimension() == DimensionRegistry.THE_VOID) {
             // Already in The Void, try to return to overworld
             returnFromVoid(player);
             return;
         }
         
-        // Store current position for the return journey
-        returnDestinations.put(player.getUUID(), new PortalDestination(
-                player.level().dimension(),
-                player.position()));
-        
         // Get the server and the destination level
         ServerLevel serverLevel = player.server.getLevel(DimensionRegistry.THE_VOID);
         
@@ -186,29 +190,37 @@ public class TheVoidPortalHandler {
             
             // No explicit message needed
             
-            player.changeDimension(serverLevel, new VoidTeleporter(destPos));
-            
-            // Effects on arrival
-            NetworkHandler.sendToPlayer(
-                    new GlitchScreenPacket(1, 0.6f, 40), // Distortion
-                    player);
-            
-            // After teleport trigger some residual effects
-            serverLevel.getServer().tell(new net.minecraft.server.TickTask(
-                    serverLevel.getServer().getTickCount() + 20,
-                    () -> {
-                        // Whispers on arrival
-                        NetworkHandler.sendToPlayer(
-                                new PlaySoundPacket(
-                                        ForgeRegistries.SOUND_EVENTS.getKey(SoundEvents.AMBIENT_CAVE.value()),
-                                        SoundSource.AMBIENT,
-                                        0.5f,
-                                        0.5f,
-                                        true, false),
-                                player);
-                        
-                        // No explicit message needed
-                    }));
+            // Load the destination first, so the teleport tick doesn't have to generate it
+            TeleportPipeline.teleport(player, serverLevel, destPos, () -> {
+                // Store the position we actually leave from for the return journey
+                returnDestinations.put(player.getUUID(), new PortalDestination(
+                        player.level().dimension(),
+                        player.position()));
+                
+                player.changeDimension(serverLevel, new VoidTeleporter(destPos));
+                
+                // Effects on arrival
+                NetworkHandler.sendToPlayer(
+                        new GlitchScreenPacket(GlitchScreenPacket.EFFECT_DISTORTION, 0.6f, 40), // Distortion
+                        player);
+                
+                // After teleport trigger some residual effects
+                serverLevel.getServer().tell(new net.minecraft.server.TickTask(
+                        serverLevel.getServer().getTickCount() + 20,
+                        () -> {
+                            // Whispers on arrival
+                            NetworkHandler.sendToPlayer(
+                                    new PlaySoundPacket(
+                                            ForgeRegistries.SOUND_EVENTS.getKey(SoundEvents.AMBIENT_CAVE.value()),
+                                            SoundSource.AMBIENT,
+                                            0.5f,
+                                            0.5f,
+                                            true, false),
+                                    player);
+                            
+                            // No explicit message needed
+                        }));
+            });
         } else {
             LOGGER.error("Failed to get The Void dimension for teleportation");
             // No message needed
@@ -219,6 +231,11 @@ public class TheVoidPortalHandler {
      * Return a player from The Void back to their original dimension
      */
     public static void returnFromVoid(ServerPlayer player) {
+        // Already on the way somewhere - a second request would find no destination and send them to spawn
+        if (TeleportPipeline.isPending(player)) {
+            return;
+        }
+        
         // Check if world has been erased - if so, prevent return
         if (EndgameSequence.getInstance().isWorldErased()) {
             // Deny return and inform player
@@ -228,7 +245,7 @@ public class TheVoidPortalHandler {
             // Apply a disturbing effect
             NetworkHandler.sendToPlayer(
                     new GlitchScreenPacket(
-                            2, // EFFECT_CORRUPT
+                            GlitchScreenPacket.EFFECT_CORRUPT,
                             0.9f,
                             40), // 2 seconds
                     player);
@@ -245,35 +262,46 @@ public class TheVoidPortalHandler {
             if (destLevel != null) {
                 // Return effects
                 NetworkHandler.sendToPlayer(
-                        new GlitchScreenPacket(0, 0.8f, 40),
+                        new GlitchScreenPacket(GlitchScreenPacket.EFFECT_STATIC, 0.8f, 40),
                         player);
                 
                 // No explicit message needed
                 
-                // Teleport back
-                Vec3 destPos = dest.position;
-                player.changeDimension(destLevel, new VoidTeleporter(new BlockPos(
-                        (int)destPos.x, (int)destPos.y, (int)destPos.z)));
-                
-                // Remove from return map
-                returnDestinations.remove(player.getUUID());
-                
-                // After return effects - trigger a random horror event
-                destLevel.getServer().tell(new net.minecraft.server.TickTask(
-                        destLevel.getServer().getTickCount() + 20,
-                        () -> {
-                            // No message needed
-                            
-                            // Trigger a horror event
-                            HorrorManager.getInstance().triggerRandomEvent(player);
-                        }));
+                // Teleport back once the chunks there are loaded
+                BlockPos destPos = BlockPos.containing(dest.position);
+                TeleportPipeline.teleport(player, destLevel, destPos, () -> {
+                    // The world may have been erased while the chunks were loading
+                    if (EndgameSequence.getInstance().isWorldErased()) {
+                        return;
+                    }
+                    
+                    // Remove from return map only once the player actually leaves
+                    returnDestinations.remove(player.getUUID(), dest);
+                    
+                    player.changeDimension(destLevel, new VoidTeleporter(destPos));
+                    
+                    // After return effects - trigger a random horror event
+                    destLevel.getServer().tell(new net.minecraft.server.TickTask(
+                            destLevel.getServer().getTickCount() + 20,
+                            () -> {
+                                // No message needed
+                                
+                                // Trigger a horror event
+                                HorrorManager.getInstance().triggerRandomEvent(player);
+                            }));
+                });
             }
         } else {
             // No return destination saved, spawn at overworld spawn - but only if world not erased
             if (!EndgameSequence.getInstance().isWorldErased()) {
                 ServerLevel overworld = player.server.getLevel(Level.OVERWORLD);
                 if (overworld != null) {
-                    player.changeDimension(overworld, new VoidTeleporter(overworld.getSharedSpawnPos()));
+                    BlockPos spawnPos = overworld.getSharedSpawnPos();
+                    TeleportPipeline.teleport(player, overworld, spawnPos, () -> {
+                        if (!EndgameSequence.getInstance().isWorldErased()) {
+                            player.changeDimension(overworld, new VoidTeleporter(spawnPos));
+                        }
+                    });
                 }
             } else {
                 // World has been erased - stay in the void
@@ -284,23 +312,21 @@ public class TheVoidPortalHandler {
     }
     
     /**
-     * Find a safe location in The Void for arrival
+     * Find a safe location in The Void for arrival. The platform layout is worked out from the seed,
+     * so nothing has to be loaded or generated to find one.
      */
     private static BlockPos findSafeDestination(ServerLevel level) {
-        // Start searching from the central region
-        BlockPos startPos = new BlockPos(0, 50, 0);
-        
-        // Look for platforms within a 200 block radius
-        for (int attempt = 0; attempt < 100; attempt++) {
-            int offsetX = RANDOM.nextInt(400) - 200;
-            int offsetZ = RANDOM.nextInt(400) - 200;
+        if (level.getChunkSource().getGenerator() instanceof TheVoidChunkGenerator generator) {
+            RandomState randomState = level.getChunkSource().randomState();
             
-            // Search for a platform at various heights
-            for (int y = 30; y < 100; y++) {
-                BlockPos checkPos = new BlockPos(offsetX, y, offsetZ);
+            // Look for platforms within a 200 block radius
+            for (int attempt = 0; attempt < 8; attempt++) {
+                int offsetX = RANDOM.nextInt(400) - 200;
+                int offsetZ = RANDOM.nextInt(400) - 200;
                 
-                if (isSafeArrivalLocation(level, checkPos)) {
-                    return checkPos.above();
+                BlockPos arrival = generator.findArrivalPos(randomState, offsetX, offsetZ, 64);
+                if (arrival != null) {
+                    return arrival;
                 }
             }
         }
@@ -315,34 +341,6 @@ public class TheVoidPortalHandler {
         return fallbackPos.above();
     }
     
-    /**
-     * Check if a position is safe for arrival
-     */
-    private static boolean isSafeArrivalLocation(Level level, BlockPos pos) {
-        // Check if there's a block to stand on
-        if (!level.getBlockState(pos).isSolid()) {
-            return false;
-        }
-        
-        // Check if there's space for the player
-        if (!level.getBlockState(pos.above()).isAir() || 
-            !level.getBlockState(pos.above(2)).isAir()) {
-            return false;
-        }
-        
-        // Make sure there's a platform, not just a single block
-        int solidBlockCount = 0;
-        for (int x = -1; x <= 1; x++) {
-            for (int z = -1; z <= 1; z++) {
-                if (level.getBlockState(pos.offset(x, 0, z)).isSolid()) {
-                    solidBlockCount++;
-                }
-            }
-        }
-        
-        return solidBlockCount >= 3; // At least 3 solid blocks to form minimal platform
-    }
-    
     /**
      * Create a simple safety platform for emergency arrival
      */
@@ -408,7 +406,12 @@ public class TheVoidPortalHandler {
             }
         }
         
-        // Add a lore book or mysterious item in the center
+        // The whole ruin works as an activation point, without marking it with a block
+        FeatureIndex.add(level, FeatureIndex.Type.PORTAL_RUIN, new BoundingBox(
+                pos.getX() - 1, pos.getY(), pos.getZ() - 1,
+                pos.getX() + 1, pos.getY() + 2, pos.getZ() + 1));
+        
+        // Sometimes add a lore book in the center
         BlockPos centerPos = pos.offset(0, 0, 0);
         if (level.getBlockState(centerPos).isAir()) {
             if (random.nextBoolean()) {
@@ -436,9 +439,6 @@ public class TheVoidPortalHandler {
                     bookTag.put("pages", pages);
                     chest.setItem(0, book);
                 }
-            } else {
-                // Or add structure block that could be used for a portal
-                level.setBlock(centerPos, Blocks.STRUCTURE_BLOCK.defaultBlockState(), 3);
             }
         }
     }
@@ -0,0 +1,180 @@
+package net.tasuposed.projectredacted.world;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.PositionalRandomFactory;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.tasuposed.projectredacted.ProjectRedacted;
+import net.tasuposed.projectredacted.horror.SeededHash;
+
+/**
+ * Where the floating platforms of The Void are.
+ *
+ * The world is split into regions of 4x4 chunks. Each region's platforms are worked out from the
+ * world seed and the region coordinates alone, so any chunk can find the platforms that reach into
+ * it by looking at the few regions around it - no matter which chunk generates first, or on which
+ * thread. Platforms are no longer cut off at chunk borders.
+ */
+public class VoidPlatformLayout {
+    public static final int REGION_CHUNKS = 4;
+    public static final int REGION_BLOCKS = REGION_CHUNKS * 16;
+
+    // Same density as before - one platform in ten chunks
+    private static final float PLATFORM_CHANCE = 0.1f;
+    private static final float LORE_CHANCE = 0.1f;
+
+    private static final int MIN_Y = 40;
+    private static final int Y_RANGE = 30;
+    private static final int MIN_RADIUS = 3;
+    private static final int RADIUS_RANGE = 5;
+
+    // Furthest a platform reaches from its center
+    public static final int MAX_RADIUS = MIN_RADIUS + RADIUS_RANGE - 1;
+
+    // Platforms are three blocks thick with decorations on top
+    public static final int DEPTH = 3;
+
+    // Every platform block lies between these heights, decorations included
+    public static final int LOWEST_BLOCK = MIN_Y - (DEPTH - 1);
+    public static final int HIGHEST_BLOCK = MIN_Y + Y_RANGE;
+
+    private static final ResourceLocation RANDOM_ID = new ResourceLocation(ProjectRedacted.MODID, "void_platforms");
+
+    /**
+     * All platforms that reach into the given block area (inclusive)
+     */
+    public static List<Platform> platformsIn(RandomState randomState, int minX, int minZ, int maxX, int maxZ) {
+        PositionalRandomFactory factory = randomState.getOrCreateRandomFactory(RANDOM_ID);
+
+        int minRegionX = Math.floorDiv(minX - MAX_RADIUS, REGION_BLOCKS);
+        int minRegionZ = Math.floorDiv(minZ - MAX_RADIUS, REGION_BLOCKS);
+        int maxRegionX = Math.floorDiv(maxX + MAX_RADIUS, REGION_BLOCKS);
+        int maxRegionZ = Math.floorDiv(maxZ + MAX_RADIUS, REGION_BLOCKS);
+
+        List<Platform> platforms = new ArrayList<>();
+        // Always the same order, so overlapping platforms resolve the same way in every chunk
+        for (int regionX = minRegionX; regionX <= maxRegionX; regionX++) {
+            for (int regionZ = minRegionZ; regionZ <= maxRegionZ; regionZ++) {
+                for (Platform platform : getRegion(factory, regionX, regionZ)) {
+                    if (platform.intersects(minX, minZ, maxX, maxZ)) {
+                        platforms.add(platform);
+                    }
+                }
+            }
+        }
+        return platforms;
+    }
+
+    /**
+     * All platforms in one region
+     */
+    public static List<Platform> getRegion(PositionalRandomFactory factory, int regionX, int regionZ) {
+        RandomSource random = factory.at(regionX, 0, regionZ);
+        List<Platform> platforms = new ArrayList<>(2);
+
+        for (int cellX = 0; cellX < REGION_CHUNKS; cellX++) {
+            for (int cellZ = 0; cellZ < REGION_CHUNKS; cellZ++) {
+                if (random.nextFloat() >= PLATFORM_CHANCE) {
+                    continue;
+                }
+
+                // Centered somewhere in this chunk of the region
+                int centerX = (regionX * REGION_CHUNKS + cellX) * 16 + random.nextInt(16);
+                int centerZ = (regionZ * REGION_CHUNKS + cellZ) * 16 + random.nextInt(16);
+                int y = MIN_Y + random.nextInt(Y_RANGE);
+                int radius = MIN_RADIUS + random.nextInt(RADIUS_RANGE);
+                boolean lore = random.nextFloat() < LORE_CHANCE;
+
+                platforms.add(new Platform(centerX, y, centerZ, radius, lore, random.nextLong()));
+            }
+        }
+
+        return platforms;
+    }
+
+    /**
+     * A single round platform
+     */
+    public static class Platform {
+        private final int centerX;
+        private final int y;
+        private final int centerZ;
+        private final int radius;
+        private final boolean lore;
+        private final long seed;
+
+        private Platform(int centerX, int y, int centerZ, int radius, boolean lore, long seed) {
+            this.centerX = centerX;
+            this.y = y;
+            this.centerZ = centerZ;
+            this.radius = radius;
+            this.lore = lore;
+            this.seed = seed;
+        }
+
+        public int getCenterX() {
+            return centerX;
+        }
+
+        /**
+         * Height of the top layer
+         */
+        public int getY() {
+            return y;
+        }
+
+        public int getCenterZ() {
+            return centerZ;
+        }
+
+        public int getRadius() {
+            return radius;
+        }
+
+        /**
+         * Whether this platform has a lore fragment at its center
+         */
+        public boolean hasLore() {
+            return lore;
+        }
+
+        /**
+         * Bounds of the lore fragment at the center of the platform, or null if it has none
+         */
+        public BoundingBox getLoreBox() {
+            if (!lore) {
+                return null;
+            }
+            return new BoundingBox(centerX - 1, y, centerZ - 1, centerX + 1, y + 1, centerZ + 1);
+        }
+
+        /**
+         * Whether the column at x, z is part of this platform
+         */
+        public boolean contains(int x, int z) {
+            int dx = x - centerX;
+            int dz = z - centerZ;
+            return dx * dx + dz * dz <= radius * radius;
+        }
+
+        /**
+         * Whether the platform's bounding square overlaps the block area (inclusive)
+         */
+        public boolean intersects(int minX, int minZ, int maxX, int maxZ) {
+            return centerX + radius >= minX && centerX - radius <= maxX
+                    && centerZ + radius >= minZ && centerZ - radius <= maxZ;
+        }
+
+        /**
+         * Noise in [0, 1) for a block, the same whichever chunk asks for it
+         */
+        public float noise(int x, int y, int z) {
+            return SeededHash.unitFloat(Mth.getSeed(x, y, z) ^ seed);
+        }
+    }
+}